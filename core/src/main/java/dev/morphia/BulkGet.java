@@ -0,0 +1,163 @@
+package dev.morphia;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.experimental.EntityCache;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads the entities for a set of IDs.  IDs held by the session's identity map or by the type's entity cache are answered without a
+ * query.  The rest are split in to chunks of {@link GetOptions#getChunkSize()} and fetched with one {@code $in} query per chunk, run
+ * concurrently on {@link GetOptions#getExecutor()} if one is given.  Documents are fetched raw and decoded on the calling thread once
+ * every chunk has been read.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.2
+ */
+class BulkGet<T> {
+    private final DatastoreImpl datastore;
+    private final Mapper mapper;
+    private final Class<T> type;
+    private final GetOptions options;
+    private final EntityModel model;
+    private final Codec<T> codec;
+
+    BulkGet(DatastoreImpl datastore, Class<T> type, GetOptions options) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+        this.type = type;
+        this.options = options;
+        this.model = mapper.getEntityModel(type);
+        this.codec = mapper.getCodecRegistry().get(type);
+    }
+
+    /**
+     * Loads the entities
+     *
+     * @param ids the IDs to load
+     * @return the entities found
+     */
+    GetResult<T> execute(Collection<?> ids) {
+        Map<Object, T> found = new HashMap<>();
+        String collection = model.getCollectionName();
+        ClientSession session = datastore.findSession(options);
+        IdentityMap identityMap = IdentityMap.of(datastore);
+        EntityCache cache = session == null ? mapper.getEntityCache(type) : null;
+
+        long stamp = cache != null ? cache.stamp() : 0;
+        List<Object> remaining = new ArrayList<>();
+        for (Object id : new LinkedHashSet<>(ids)) {
+            Object held = identityMap != null ? identityMap.get(collection, id) : null;
+            if (type.isInstance(held)) {
+                found.put(key(id), type.cast(held));
+            } else {
+                T cached = cache != null ? cache.get(id, codec) : null;
+                if (cached != null) {
+                    found.put(key(id), cached);
+                } else {
+                    remaining.add(id);
+                }
+            }
+        }
+
+        for (RawBsonDocument document : fetch(session, remaining)) {
+            T entity = document.decode(codec);
+            Object id = mapper.getId(entity);
+            if (cache != null) {
+                cache.put(id, document, stamp);
+            }
+            if (identityMap != null) {
+                entity = identityMap.register(collection, id, entity);
+            }
+            found.put(normalize(document.get("_id")), entity);
+        }
+
+        return new GetResult<>(ids, found, this::key);
+    }
+
+    /**
+     * The server matches IDs by their BSON values and compares numbers by value, so an {@code Integer} requested for a {@code long} ID
+     * still finds its document.  Requested and stored IDs are both reduced to such a key so that they can be paired up again.
+     */
+    private Object key(Object id) {
+        return normalize(new Document("_id", id).toBsonDocument(Document.class, mapper.getCodecRegistry()).get("_id"));
+    }
+
+    private static Object normalize(BsonValue value) {
+        switch (value.getBsonType()) {
+            case INT32:
+                return BigDecimal.valueOf(value.asInt32().getValue()).stripTrailingZeros();
+            case INT64:
+                return BigDecimal.valueOf(value.asInt64().getValue()).stripTrailingZeros();
+            case DOUBLE:
+                double number = value.asDouble().getValue();
+                return Double.isFinite(number) ? BigDecimal.valueOf(number).stripTrailingZeros() : value;
+            case DECIMAL128:
+                Decimal128 decimal = value.asDecimal128().getValue();
+                return decimal.isFinite() ? new BigDecimal(decimal.toString()).stripTrailingZeros() : value;
+            default:
+                return value;
+        }
+    }
+
+    private List<RawBsonDocument> fetch(ClientSession session, List<Object> ids) {
+        List<List<Object>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += options.getChunkSize()) {
+            chunks.add(ids.subList(i, Math.min(i + options.getChunkSize(), ids.size())));
+        }
+        List<RawBsonDocument> documents = new ArrayList<>();
+        Executor executor = options.getExecutor();
+        if (executor == null || session != null || chunks.size() < 2) {
+            for (List<Object> chunk : chunks) {
+                documents.addAll(fetchChunk(session, chunk));
+            }
+            return documents;
+        }
+
+        List<CompletableFuture<List<RawBsonDocument>>> futures = new ArrayList<>();
+        for (List<Object> chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> fetchChunk(session, chunk), executor));
+        }
+        try {
+            for (CompletableFuture<List<RawBsonDocument>> future : futures) {
+                documents.addAll(future.join());
+            }
+            return documents;
+        } catch (CompletionException e) {
+            futures.forEach(f -> f.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MappingException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private List<RawBsonDocument> fetchChunk(ClientSession session, List<Object> chunk) {
+        Document query = new Document("_id", new Document("$in", chunk));
+        mapper.updateQueryWithDiscriminators(model, query);
+        MongoCollection<RawBsonDocument> collection = mapper.getCollection(type).withDocumentClass(RawBsonDocument.class);
+        FindIterable<RawBsonDocument> iterable = session == null ? collection.find(query) : collection.find(session, query);
+        return iterable.into(new ArrayList<>(chunk.size()));
+    }
+}
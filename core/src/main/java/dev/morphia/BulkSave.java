@@ -0,0 +1,233 @@
+package dev.morphia;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.query.Query;
+import dev.morphia.query.ValidationException;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+
+/**
+ * Saves a list of entities destined for a single collection with one {@code bulkWrite}.  Entities are mapped to writes the same way
+ * {@link Datastore#save(Object)} would handle them individually:
+ * <ul>
+ *     <li>new versioned entities and entities with no ID are inserted</li>
+ *     <li>versioned entities with an ID are updated matching on both the ID and the previous version</li>
+ *     <li>everything else is upserted by ID</li>
+ * </ul>
+ * A bulk write only reports how many updates matched in total and the stored versions can not tell this write apart from a concurrent
+ * one, so versioned updates are sent one at a time after the bulk write to learn which of them matched.  Version fields are only
+ * advanced for those entities whose writes were applied.  Versioned updates which matched nothing are reported as conflicts rather than
+ * failing the whole save.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.2
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class BulkSave<T> {
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final DatastoreImpl datastore;
+    private final Mapper mapper;
+    private final MongoCollection<T> collection;
+    private final List<T> entities;
+    private final List<WriteModel<T>> writes = new ArrayList<>();
+    private final List<Op> ops = new ArrayList<>();
+    private final List<Op> updates = new ArrayList<>();
+    private final List<String> conflicts = new ArrayList<>();
+
+    BulkSave(DatastoreImpl datastore, MongoCollection<T> collection, List<T> entities) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+        this.collection = collection;
+        this.entities = entities;
+    }
+
+    /**
+     * Writes the entities
+     *
+     * @param options the options to apply
+     * @return descriptions of any entities whose versions conflicted with the database
+     * @throws MongoBulkWriteException for any failures other than version conflicts
+     */
+    List<String> execute(InsertManyOptions options) {
+        for (T entity : entities) {
+            check(entity);
+        }
+        for (T entity : entities) {
+            add(entity);
+        }
+
+        ClientSession session = datastore.findSession(options);
+        MongoCollection<T> prepared = options.prepare(collection);
+        if (write(prepared, session, options)) {
+            update(prepared, session, options);
+        }
+
+        return conflicts;
+    }
+
+    /**
+     * Runs the bulk write of everything but the versioned updates
+     *
+     * @return false if an ordered write stopped early so the versioned updates should not be attempted
+     */
+    private boolean write(MongoCollection<T> prepared, ClientSession session, InsertManyOptions options) {
+        if (writes.isEmpty()) {
+            return true;
+        }
+        BulkWriteOptions bulkOptions = new BulkWriteOptions()
+                                           .ordered(options.isOrdered())
+                                           .bypassDocumentValidation(options.getBypassDocumentValidation());
+        try {
+            if (session == null) {
+                prepared.bulkWrite(writes, bulkOptions);
+            } else {
+                prepared.bulkWrite(session, writes, bulkOptions);
+            }
+            return true;
+        } catch (MongoBulkWriteException e) {
+            Map<Integer, BulkWriteError> errors = new HashMap<>();
+            for (BulkWriteError error : e.getWriteErrors()) {
+                errors.put(error.getIndex(), error);
+            }
+            if (options.isOrdered() && !errors.isEmpty()) {
+                int first = e.getWriteErrors().get(0).getIndex();
+                for (int index = first + 1; index < ops.size(); index++) {
+                    errors.put(index, null);
+                }
+            }
+            complete(errors);
+            boolean onlyConflicts = e.getWriteConcernError() == null
+                                    && e.getWriteErrors().stream()
+                                        .allMatch(error -> error.getCode() == DUPLICATE_KEY && ops.get(error.getIndex()).versioned);
+            if (!onlyConflicts) {
+                throw e;
+            }
+            return !options.isOrdered();
+        }
+    }
+
+    private void update(MongoCollection<T> prepared, ClientSession session, InsertManyOptions options) {
+        UpdateOptions updateOptions = new UpdateOptions().bypassDocumentValidation(options.getBypassDocumentValidation());
+        for (Op op : updates) {
+            UpdateResult result = session == null
+                                  ? prepared.updateOne(op.filter, op.update, updateOptions)
+                                  : prepared.updateOne(session, op.filter, op.update, updateOptions);
+            if (result.wasAcknowledged() && result.getMatchedCount() != 1) {
+                conflicts.add(op.describe());
+            } else {
+                op.versionField.setValue(op.entity, op.oldVersion + 1);
+            }
+        }
+    }
+
+    /**
+     * Rejects entities which can not be saved before any are written
+     */
+    private void check(T entity) {
+        EntityModel model = mapper.getEntityModel(entity.getClass());
+        FieldModel versionField = model.getVersionField();
+        if (versionField != null && model.getIdField().getValue(entity) == null) {
+            Long version = (Long) versionField.getValue(entity);
+            if (version != null && version != 0) {
+                throw new ValidationException(Sofia.versionManuallySet());
+            }
+        }
+    }
+
+    private void add(T entity) {
+        EntityModel model = mapper.getEntityModel(entity.getClass());
+        FieldModel versionField = model.getVersionField();
+        Object id = model.getIdField().getValue(entity);
+        if (versionField != null) {
+            Long oldVersion = (Long) versionField.getValue(entity);
+            long newVersion = oldVersion == null ? 1L : oldVersion + 1;
+            if (newVersion == 1) {
+                versionField.setValue(entity, newVersion);
+                add(new InsertOneModel<>(entity), new Op(entity, id, versionField, oldVersion, null, null));
+            } else if (id != null) {
+                Query<T> query = datastore.<T>find(collection.getNamespace().getCollectionName())
+                                          .filter(eq("_id", id),
+                                              eq(versionField.getMappedName(), oldVersion));
+                updates.add(new Op(entity, id, versionField, oldVersion, query.toBsonDocument(),
+                    query.update(set(entity)).toBsonDocument()));
+            }
+        } else if (id == null) {
+            add(new InsertOneModel<>(entity), new Op(entity, id, null, null, null, null));
+        } else {
+            add(new ReplaceOneModel<>(new Document("_id", id), entity, new ReplaceOptions().upsert(true)),
+                new Op(entity, id, null, null, null, null));
+        }
+    }
+
+    private void add(WriteModel<T> write, Op op) {
+        writes.add(write);
+        ops.add(op);
+    }
+
+    private void complete(Map<Integer, BulkWriteError> errors) {
+        for (int index = 0; index < ops.size(); index++) {
+            Op op = ops.get(index);
+            if (errors.containsKey(index)) {
+                op.rollback();
+                BulkWriteError error = errors.get(index);
+                if (error != null && error.getCode() == DUPLICATE_KEY && op.versioned) {
+                    conflicts.add(op.describe());
+                }
+            }
+        }
+    }
+
+    private static final class Op {
+        private final Object entity;
+        private final Object entityId;
+        private final FieldModel versionField;
+        private final Long oldVersion;
+        private final BsonDocument filter;
+        private final BsonDocument update;
+        private final boolean versioned;
+
+        private Op(Object entity, Object entityId, FieldModel versionField, Long oldVersion, BsonDocument filter, BsonDocument update) {
+            this.entity = entity;
+            this.entityId = entityId;
+            this.versionField = versionField;
+            this.oldVersion = oldVersion;
+            this.filter = filter;
+            this.update = update;
+            versioned = versionField != null;
+        }
+
+        private String describe() {
+            return Sofia.concurrentModification(entity.getClass().getName(), entityId);
+        }
+
+        private void rollback() {
+            if (versioned) {
+                versionField.setValue(entity, oldVersion);
+            }
+        }
+    }
+}
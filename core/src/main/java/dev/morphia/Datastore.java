@@ -18,14 +18,17 @@ import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateOperations;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
 import org.bson.Document;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -155,11 +158,26 @@ public interface Datastore {
     void ensureCaps();
 
     /**
-     * Ensures (creating if necessary) the indexes found during class mapping
+     * Compares the indexes found during class mapping with those in the database without making any changes.  Implementations other
+     * than Morphia's own throw {@link UnsupportedOperationException} unless they override this method.
+     *
+     * @return the differences found
+     * @see #ensureIndexes()
+     * @since 2.2
+     */
+    default IndexReport checkIndexes() {
+        throw new UnsupportedOperationException(Sofia.unsupportedQueryOperation(getClass().getName(), "checkIndexes"));
+    }
+
+    /**
+     * Ensures (creating if necessary) the indexes found during class mapping.  The existing indexes of each collection are listed first
+     * and only those which are missing or differ from their definitions are sent, in a single command per collection.  Collections are
+     * processed in parallel.
      *
      * @see Indexes
      * @see Indexed
      * @see Text
+     * @see #checkIndexes()
      */
     void ensureIndexes();
 
@@ -277,6 +295,37 @@ public interface Datastore {
      */
     ClientSession findSession(SessionConfigurable<?> configurable);
 
+    /**
+     * Loads the entities with the given IDs
+     *
+     * @param type the entity type
+     * @param ids  the IDs to load
+     * @param <T>  the entity type
+     * @return the entities found in the order their IDs were given along with any IDs which were not found
+     * @see #get(Class, Collection, GetOptions)
+     * @since 2.2
+     */
+    default <T> GetResult<T> get(Class<T> type, Collection<?> ids) {
+        return get(type, ids, new GetOptions());
+    }
+
+    /**
+     * Loads the entities with the given IDs.  Rather than one {@code $in} query holding every ID, the IDs are split in to chunks of
+     * {@link GetOptions#getChunkSize()} and each chunk is queried separately, concurrently if an executor is configured.  Entities held
+     * by a session's identity map or an entity cache are not queried for at all.  Implementations other than Morphia's own throw
+     * {@link UnsupportedOperationException} unless they override this method.
+     *
+     * @param type    the entity type
+     * @param ids     the IDs to load
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the entities found in the order their IDs were given along with any IDs which were not found
+     * @since 2.2
+     */
+    default <T> GetResult<T> get(Class<T> type, Collection<?> ids, GetOptions options) {
+        throw new UnsupportedOperationException(Sofia.unsupportedQueryOperation(getClass().getName(), "get"));
+    }
+
     /**
      * @return the MongoDatabase used by this DataStore
      * @morphia.internal
@@ -398,6 +447,33 @@ public interface Datastore {
         merge(entity, new InsertOneOptions().writeConcern(wc));
     }
 
+    /**
+     * Prepares a query to be run repeatedly with different values.  The query is validated, translated, and encoded once and only the
+     * values of any {@link PreparedQuery#param(String) parameters} are bound each time it is run.
+     *
+     * @param query the query to prepare
+     * @param <T>   the type of the entity
+     * @return the prepared query
+     * @since 2.2
+     */
+    default <T> PreparedQuery<T> prepare(Query<T> query) {
+        return prepare(query, new FindOptions());
+    }
+
+    /**
+     * Prepares a query to be run repeatedly with different values.  The query is validated, translated, and encoded once and only the
+     * values of any {@link PreparedQuery#param(String) parameters} are bound each time it is run.
+     *
+     * @param query   the query to prepare
+     * @param options the options to apply each time the query is run
+     * @param <T>     the type of the entity
+     * @return the prepared query
+     * @since 2.2
+     */
+    default <T> PreparedQuery<T> prepare(Query<T> query, FindOptions options) {
+        return query.prepare(options);
+    }
+
     /**
      * Returns a new query based on the example object
      *
@@ -445,12 +521,15 @@ public interface Datastore {
     }
 
     /**
-     * Saves the entities (Objects) and updates the @Id field
+     * Saves the entities (Objects) and updates the @Id field.  The entities are written with a single bulk write per collection.  Versioned
+     * entities are only updated if their version matches the stored version and their versions are only updated when their writes
+     * succeed.
      *
      * @param entities the entities to save
      * @param <T>      the type of the entity
      * @param options  the options to apply to the save operation
      * @return the saved entities
+     * @throws java.util.ConcurrentModificationException if any versioned entities were out of date
      * @since 2.0
      */
     <T> List<T> save(List<T> entities, InsertManyOptions options);
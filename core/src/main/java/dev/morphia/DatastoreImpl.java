@@ -8,6 +8,7 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.ValidationOptions;
 import com.mongodb.client.result.DeleteResult;
@@ -17,14 +18,18 @@ import dev.morphia.aggregation.experimental.AggregationImpl;
 import dev.morphia.annotations.CappedAt;
 import dev.morphia.annotations.IndexHelper;
 import dev.morphia.annotations.Validation;
+import dev.morphia.experimental.BaseMorphiaSession;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.experimental.MorphiaSession;
 import dev.morphia.experimental.MorphiaSessionImpl;
+import dev.morphia.internal.ChangeTracker;
 import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.experimental.EntityCache;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
@@ -33,16 +38,25 @@ import dev.morphia.query.ValidationException;
 import dev.morphia.query.experimental.updates.UpdateOperators;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static org.bson.Document.parse;
@@ -55,6 +69,7 @@ import static org.bson.Document.parse;
 @SuppressWarnings({"unchecked", "rawtypes", "removal"})
 public class DatastoreImpl implements AdvancedDatastore {
     private static final Logger LOG = LoggerFactory.getLogger(DatastoreImpl.class);
+    private static final int INDEX_THREADS = 8;
 
     private final MongoDatabase database;
     private final MongoClient mongoClient;
@@ -184,18 +199,17 @@ public class DatastoreImpl implements AdvancedDatastore {
         if (mapper.getMappedEntities().isEmpty()) {
             Sofia.logNoMappedClasses();
         }
-        final IndexHelper indexHelper = new IndexHelper(mapper);
-        for (EntityModel model : mapper.getMappedEntities()) {
-            if (model.getEntityAnnotation() != null) {
-                indexHelper.createIndex(mapper.getCollection(model.getType()), model);
-            }
-        }
+        reconcileIndexes(entityModels(), true);
     }
 
     @Override
     public <T> void ensureIndexes(Class<T> clazz) {
-        final IndexHelper indexHelper = new IndexHelper(mapper);
-        indexHelper.createIndex(mapper.getCollection(clazz), mapper.getEntityModel(clazz));
+        reconcileIndexes(List.of(mapper.getEntityModel(clazz)), true);
+    }
+
+    @Override
+    public IndexReport checkIndexes() {
+        return reconcileIndexes(entityModels(), false);
     }
 
     @Override
@@ -225,6 +239,11 @@ public class DatastoreImpl implements AdvancedDatastore {
                : getSession();
     }
 
+    @Override
+    public <T> GetResult<T> get(Class<T> type, Collection<?> ids, GetOptions options) {
+        return new BulkGet<>(this, type, options).execute(ids);
+    }
+
     @Override
     public QueryFactory getQueryFactory() {
         return queryFactory;
@@ -287,9 +306,6 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new MappingException("Could not get id for " + entity.getClass().getName());
         }
 
-        final Document document = mapper.toDocument(entity);
-        document.remove("_id");
-
         final Query<T> query = (Query<T>) find(entity.getClass()).filter(eq("_id", id));
         if (!tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), options)) {
             UpdateResult execute = query.update(UpdateOperators.set(entity))
@@ -300,6 +316,7 @@ public class DatastoreImpl implements AdvancedDatastore {
                 throw new UpdateException("Nothing updated");
             }
         }
+        invalidate(entity, findSession(options));
 
         return query.first();
     }
@@ -350,32 +367,22 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
 
         Map<MongoCollection, List<T>> grouped = new LinkedHashMap<>();
-        List<T> list = new ArrayList<>();
         for (T entity : entities) {
-            EntityModel model = getMapper().getEntityModel(entity.getClass());
-            if (getMapper().getId(entity) != null || model.getVersionField() != null) {
-                list.add(entity);
-            } else {
-                grouped.computeIfAbsent(mapper.getCollection(entity.getClass()), c -> new ArrayList<>())
-                       .add(entity);
+            if (entity == null) {
+                throw new UpdateException(Sofia.cannotPersistNullEntity());
             }
+            grouped.computeIfAbsent(mapper.getCollection(entity.getClass()), c -> new ArrayList<>())
+                   .add(entity);
         }
 
+        List<String> conflicts = new ArrayList<>();
         for (Entry<MongoCollection, List<T>> entry : grouped.entrySet()) {
-            MongoCollection<T> collection = entry.getKey(); // options.prepare(mapper.getCollection(entry.getKey()));
-            if (options.clientSession() == null) {
-                collection.insertMany(entry.getValue(), options.getOptions());
-            } else {
-                collection.insertMany(options.clientSession(), entry.getValue(), options.getOptions());
-            }
+            conflicts.addAll(new BulkSave<T>(this, entry.getKey(), entry.getValue()).execute(options));
         }
-
-        InsertOneOptions insertOneOptions = new InsertOneOptions()
-                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
-                                                .clientSession(findSession(options))
-                                                .writeConcern(options.writeConcern());
-        for (T entity : list) {
-            save(entity, insertOneOptions);
+        ClientSession session = findSession(options);
+        entities.forEach(entity -> invalidate(entity, session));
+        if (!conflicts.isEmpty()) {
+            throw new ConcurrentModificationException(String.join(" ", conflicts));
         }
         return entities;
     }
@@ -480,9 +487,77 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
     }
 
+    private List<EntityModel> entityModels() {
+        List<EntityModel> models = new ArrayList<>();
+        for (EntityModel model : mapper.getMappedEntities()) {
+            if (model.getEntityAnnotation() != null) {
+                models.add(model);
+            }
+        }
+        return models;
+    }
+
+    /**
+     * Compares the defined indexes against those in the database one collection at a time, several collections in parallel.
+     */
+    private IndexReport reconcileIndexes(List<EntityModel> models, boolean create) {
+        final IndexHelper indexHelper = new IndexHelper(mapper);
+        Map<String, MongoCollection<?>> collections = new LinkedHashMap<>();
+        Map<String, List<IndexModel>> indexes = new LinkedHashMap<>();
+        for (EntityModel model : models) {
+            MongoCollection<?> collection = mapper.getCollection(model.getType());
+            String name = collection.getNamespace().getCollectionName();
+            collections.putIfAbsent(name, collection);
+            indexes.computeIfAbsent(name, n -> new ArrayList<>())
+                   .addAll(indexHelper.calculateIndexes(model));
+        }
+
+        IndexReport report = new IndexReport();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Entry<String, MongoCollection<?>> entry : collections.entrySet()) {
+            tasks.add(() -> {
+                indexHelper.reconcile(entry.getValue(), indexes.get(entry.getKey()), create, report);
+                return null;
+            });
+        }
+        if (tasks.size() < 2) {
+            collections.forEach((name, collection) -> indexHelper.reconcile(collection, indexes.get(name), create, report));
+            return report;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), INDEX_THREADS));
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new MappingException(e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MappingException(e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
     private <T> T doTransaction(MorphiaSession morphiaSession, MorphiaTransaction<T> body) {
         try (morphiaSession) {
-            return morphiaSession.getSession().withTransaction(() -> body.execute(morphiaSession));
+            IdentityMap identityMap = morphiaSession instanceof BaseMorphiaSession
+                                      ? ((BaseMorphiaSession) morphiaSession).getIdentityMap()
+                                      : null;
+            if (identityMap == null) {
+                return morphiaSession.withTransaction(() -> body.execute(morphiaSession));
+            }
+            return morphiaSession.withTransaction(() -> {
+                identityMap.clear();
+                return identityMap.bind(() -> body.execute(morphiaSession));
+            });
         }
     }
 
@@ -521,9 +596,17 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new UpdateException(Sofia.cannotPersistNullEntity());
         }
 
-        if (!tryVersionedUpdate(entity, collection, options)) {
+        if (!tryTrackedUpdate(entity, collection, options) && !tryVersionedUpdate(entity, collection, options)) {
             saveDocument(entity, collection, options);
         }
+        invalidate(entity, findSession(options));
+    }
+
+    private <T> void invalidate(T entity, ClientSession session) {
+        EntityCache cache = mapper.getEntityCache(entity.getClass());
+        if (cache != null) {
+            cache.afterWrite(this, session, mapper.getId(entity));
+        }
     }
 
     private <T> void setInitialVersion(FieldModel versionField, T entity) {
@@ -537,6 +620,52 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
     }
 
+    /**
+     * Saves only the fields which have changed since the entity was loaded if change tracking is enabled and the entity is tracked.
+     */
+    private <T> boolean tryTrackedUpdate(T entity, MongoCollection<T> collection, InsertOneOptions options) {
+        ChangeTracker tracker = mapper.getChangeTracker();
+        RawBsonDocument snapshot = tracker != null ? tracker.get(entity) : null;
+        if (snapshot == null) {
+            return false;
+        }
+        EntityModel model = mapper.getEntityModel(entity.getClass());
+        FieldModel versionField = model.getVersionField();
+        Long oldVersion = versionField != null ? (Long) versionField.getValue(entity) : null;
+        if (model.getIdField().getValue(entity) == null || versionField != null && oldVersion == null) {
+            return false;
+        }
+
+        RawBsonDocument current = new RawBsonDocument(entity, mapper.getCodecRegistry().get((Class<T>) entity.getClass()));
+        BsonDocument filter = new BsonDocument("_id", current.get("_id"));
+        BsonDocument update = ChangeTracker.diff(snapshot, current, versionField != null ? versionField.getMappedName() : null);
+        if (versionField != null) {
+            filter.put(versionField.getMappedName(), new BsonInt64(oldVersion));
+            update.put("$inc", new BsonDocument(versionField.getMappedName(), new BsonInt64(1)));
+        } else if (update.isEmpty()) {
+            return true;
+        }
+
+        ClientSession session = findSession(options);
+        UpdateOptions updateOptions = new UpdateOptions().bypassDocumentValidation(options.getBypassDocumentValidation());
+        MongoCollection<T> prepared = options.prepare(collection);
+        UpdateResult result = session == null
+                              ? prepared.updateOne(filter, update, updateOptions)
+                              : prepared.updateOne(session, filter, update, updateOptions);
+        if (result.wasAcknowledged() && result.getMatchedCount() != 1) {
+            if (versionField != null) {
+                throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(),
+                    model.getIdField().getValue(entity)));
+            }
+            saveDocument(entity, collection, options);
+        } else if (versionField != null) {
+            updateVersion(entity, versionField, oldVersion + 1);
+        }
+        tracker.record(entity, current);
+
+        return true;
+    }
+
     private <T> boolean tryVersionedUpdate(T entity, MongoCollection collection, InsertOneOptions options) {
         final EntityModel model = mapper.getEntityModel(entity.getClass());
         if (model.getVersionField() == null) {
@@ -0,0 +1,93 @@
+package dev.morphia;
+
+import com.mongodb.client.ClientSession;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.sofia.Sofia;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The options to apply when loading entities by ID
+ *
+ * @see Datastore#get(Class, java.util.Collection, GetOptions)
+ * @since 2.2
+ */
+public final class GetOptions implements SessionConfigurable<GetOptions> {
+    /**
+     * The number of IDs sent in each query when none is configured.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private Executor executor;
+    private ClientSession clientSession;
+
+    /**
+     * Creates a new options instance
+     */
+    public GetOptions() {
+    }
+
+    /**
+     * @param that the options to copy
+     * @morphia.internal
+     */
+    public GetOptions(GetOptions that) {
+        this.chunkSize = that.chunkSize;
+        this.executor = that.executor;
+        this.clientSession = that.clientSession;
+    }
+
+    /**
+     * @return the maximum number of IDs sent in each query
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the maximum number of IDs sent in each {@code $in} query.  Larger sets of IDs are split in to several queries so that no
+     * single command grows too large.
+     *
+     * @param chunkSize the chunk size
+     * @return this
+     */
+    public GetOptions chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(Sofia.invalidChunkSize(chunkSize));
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @return the executor to run chunks on or null if they are run on the calling thread
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Runs the queries for each chunk of IDs on the given executor so that they can proceed concurrently.  Results are still returned in
+     * the order requested.  A client session must not be used by several threads at once so when the load runs in a session, either one
+     * set on these options or the one bound to the datastore, the chunks are run in turn on the calling thread and the executor is unused.
+     *
+     * @param executor the executor to use or null to run each chunk in turn on the calling thread
+     * @return this
+     */
+    public GetOptions executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public GetOptions clientSession(ClientSession clientSession) {
+        this.clientSession = clientSession;
+        return this;
+    }
+
+    @Override
+    public ClientSession clientSession() {
+        return clientSession;
+    }
+}
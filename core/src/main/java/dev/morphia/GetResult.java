@@ -0,0 +1,66 @@
+package dev.morphia;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The entities loaded for a set of IDs
+ *
+ * @param <T> the entity type
+ * @see Datastore#get(Class, Collection, GetOptions)
+ * @since 2.2
+ */
+public class GetResult<T> {
+    private final List<T> entities;
+    private final List<Object> missingIds;
+    private final Map<Object, T> byKey;
+    private final Function<Object, Object> key;
+
+    GetResult(Collection<?> ids, Map<Object, T> byKey, Function<Object, Object> key) {
+        this.byKey = byKey;
+        this.key = key;
+        entities = new ArrayList<>(byKey.size());
+        missingIds = new ArrayList<>();
+        for (Object id : ids) {
+            T entity = byKey.get(key.apply(id));
+            if (entity != null) {
+                entities.add(entity);
+            } else {
+                missingIds.add(id);
+            }
+        }
+    }
+
+    /**
+     * @return the entities found in the order their IDs were requested.  An ID requested more than once yields the same entity more than
+     * once.
+     */
+    public List<T> getEntities() {
+        return entities;
+    }
+
+    /**
+     * @return the requested IDs for which no entity was found in the order they were requested
+     */
+    public List<Object> getMissingIds() {
+        return missingIds;
+    }
+
+    /**
+     * @param id the ID value
+     * @return the entity found for the ID or null if there was none
+     */
+    public T get(Object id) {
+        return byKey.get(key.apply(id));
+    }
+
+    /**
+     * @return true if an entity was found for every requested ID
+     */
+    public boolean isComplete() {
+        return missingIds.isEmpty();
+    }
+}
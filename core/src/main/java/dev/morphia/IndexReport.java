@@ -0,0 +1,97 @@
+package dev.morphia;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Describes how the indexes in the database differ from those defined on the mapped entities.  Each section is keyed by collection name.
+ *
+ * @see Datastore#checkIndexes()
+ * @since 2.2
+ */
+public class IndexReport {
+    private final Map<String, List<Document>> missing = new TreeMap<>();
+    private final Map<String, List<Document>> changed = new TreeMap<>();
+    private final Map<String, List<Document>> extra = new TreeMap<>();
+
+    /**
+     * @return the defined indexes which do not exist in the database
+     */
+    public synchronized Map<String, List<Document>> getMissing() {
+        return Collections.unmodifiableMap(missing);
+    }
+
+    /**
+     * The indexes which exist but whose keys or options differ from their definitions.  Each entry holds the {@code expected} and
+     * {@code actual} forms of the index.
+     *
+     * @return the changed indexes
+     */
+    public synchronized Map<String, List<Document>> getChanged() {
+        return Collections.unmodifiableMap(changed);
+    }
+
+    /**
+     * @return the indexes which exist in the database but are not defined on any entity
+     */
+    public synchronized Map<String, List<Document>> getExtra() {
+        return Collections.unmodifiableMap(extra);
+    }
+
+    /**
+     * @return true if the database indexes match their definitions
+     */
+    public synchronized boolean isEmpty() {
+        return missing.isEmpty() && changed.isEmpty() && extra.isEmpty();
+    }
+
+    /**
+     * Records an index which needs to be created
+     *
+     * @param collection the collection name
+     * @param index      the index definition
+     * @morphia.internal
+     */
+    public synchronized void missing(String collection, Document index) {
+        missing.computeIfAbsent(collection, c -> new ArrayList<>()).add(index);
+    }
+
+    /**
+     * Records an index whose definition differs from what is in the database
+     *
+     * @param collection the collection name
+     * @param expected   the index definition
+     * @param actual     the index found in the database
+     * @morphia.internal
+     */
+    public synchronized void changed(String collection, Document expected, Document actual) {
+        changed.computeIfAbsent(collection, c -> new ArrayList<>())
+               .add(new Document("expected", expected).append("actual", actual));
+    }
+
+    /**
+     * Records an index in the database with no matching definition
+     *
+     * @param collection the collection name
+     * @param index      the index found in the database
+     * @morphia.internal
+     */
+    public synchronized void extra(String collection, Document index) {
+        extra.computeIfAbsent(collection, c -> new ArrayList<>()).add(index);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new StringJoiner(", ", IndexReport.class.getSimpleName() + "[", "]")
+                   .add("missing=" + missing)
+                   .add("changed=" + changed)
+                   .add("extra=" + extra)
+                   .toString();
+    }
+}
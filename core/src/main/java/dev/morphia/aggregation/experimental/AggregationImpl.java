@@ -33,9 +33,10 @@ import dev.morphia.aggregation.experimental.stages.Stage;
 import dev.morphia.aggregation.experimental.stages.UnionWith;
 import dev.morphia.aggregation.experimental.stages.Unset;
 import dev.morphia.aggregation.experimental.stages.Unwind;
-import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.MergingBsonWriter;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.internal.MorphiaCursor;
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
@@ -269,12 +270,26 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
+    /**
+     * @return the collection this pipeline runs against
+     * @morphia.internal
+     * @since 2.2
+     */
+    public MongoCollection<T> getCollection() {
+        return collection;
+    }
+
+    /**
+     * @return the encoded stages of this pipeline
+     * @morphia.internal
+     * @since 2.2
+     */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private List<Document> getDocuments() {
+    public List<BsonDocument> getDocuments() {
         return stages.stream()
                      .map(s -> {
                          Codec codec = datastore.getMapper().getCodecRegistry().get(s.getClass());
-                         DocumentWriter writer = new DocumentWriter();
+                         MergingBsonWriter writer = new MergingBsonWriter();
                          codec.encode(writer, s, EncoderContext.builder().build());
                          return writer.getDocument();
                      })
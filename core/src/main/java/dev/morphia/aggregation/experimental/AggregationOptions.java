@@ -11,6 +11,7 @@ import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.internal.WriteConfigurable;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -61,7 +62,7 @@ public class AggregationOptions implements SessionConfigurable<AggregationOption
      * @return the updated collection
      * @morphia.internal
      */
-    public <S, T> AggregateIterable<S> apply(List<Document> documents, MongoCollection<T> collection,
+    public <S, T> AggregateIterable<S> apply(List<? extends Bson> documents, MongoCollection<T> collection,
                                              Class<S> resultType) {
         MongoCollection<T> bound = collection;
         if (readConcern != null) {
@@ -17,20 +17,29 @@
 package dev.morphia.annotations;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
+import dev.morphia.IndexReport;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.utils.IndexType;
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -217,11 +226,144 @@ public final class IndexHelper {
     }
 
     void createIndex(MongoCollection<?> collection, EntityModel entityModel, Index index) {
+        IndexModel indexModel = indexModel(entityModel, index);
+        collection.createIndex(indexModel.getKeys(), indexModel.getOptions());
+    }
+
+    /**
+     * Calculates the indexes defined for a model
+     *
+     * @param model the model
+     * @return the index definitions
+     * @morphia.internal
+     * @since 2.2
+     */
+    public List<IndexModel> calculateIndexes(EntityModel model) {
+        List<IndexModel> list = new ArrayList<>();
+        if (!model.isInterface() && !model.isAbstract()) {
+            for (Index index : collectIndexes(model, Collections.emptyList())) {
+                list.add(indexModel(model, index));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Compares the indexes defined for a collection with those which already exist.  Existing indexes are matched to their definitions by
+     * name.  When creating, both missing and changed indexes are sent in a single {@code createIndexes} command so that the server still
+     * reports any conflicting options.
+     *
+     * @param collection the collection
+     * @param expected   the index definitions for the collection
+     * @param create     true if indexes should be created or false to only report on them
+     * @param report     the report to add any differences to
+     * @morphia.internal
+     * @since 2.2
+     */
+    public void reconcile(MongoCollection<?> collection, List<IndexModel> expected, boolean create, IndexReport report) {
+        String collectionName = collection.getNamespace().getCollectionName();
+        Map<String, Document> existing = new LinkedHashMap<>();
+        for (Document index : collection.listIndexes()) {
+            existing.put(index.getString("name"), index);
+        }
+        existing.remove("_id_");
+
+        Map<String, IndexModel> defined = new LinkedHashMap<>();
+        for (IndexModel indexModel : expected) {
+            defined.putIfAbsent(indexName(indexModel), indexModel);
+        }
+
+        List<IndexModel> toCreate = new ArrayList<>();
+        for (Entry<String, IndexModel> entry : defined.entrySet()) {
+            Document spec = spec(entry.getKey(), entry.getValue());
+            Document actual = existing.remove(entry.getKey());
+            if (actual == null) {
+                report.missing(collectionName, spec);
+                toCreate.add(entry.getValue());
+            } else if (!matches(spec, actual)) {
+                report.changed(collectionName, spec, actual);
+                toCreate.add(entry.getValue());
+            }
+        }
+        for (Document extra : existing.values()) {
+            report.extra(collectionName, extra);
+        }
+
+        if (create && !toCreate.isEmpty()) {
+            collection.createIndexes(toCreate);
+        }
+    }
+
+    private IndexModel indexModel(EntityModel entityModel, Index index) {
         Document keys = calculateKeys(entityModel, index);
         com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
         calculateWeights(index, indexOptions);
 
-        collection.createIndex(keys, indexOptions);
+        return new IndexModel(keys, indexOptions);
+    }
+
+    private String indexName(IndexModel indexModel) {
+        if (indexModel.getOptions().getName() != null) {
+            return indexModel.getOptions().getName();
+        }
+        StringJoiner name = new StringJoiner("_");
+        for (Entry<String, Object> entry : ((Document) indexModel.getKeys()).entrySet()) {
+            name.add(entry.getKey()).add(entry.getValue().toString());
+        }
+        return name.toString();
+    }
+
+    private Document spec(String name, IndexModel indexModel) {
+        com.mongodb.client.model.IndexOptions options = indexModel.getOptions();
+        Document spec = new Document("name", name)
+                            .append("key", indexModel.getKeys());
+        if (options.isUnique()) {
+            spec.append("unique", true);
+        }
+        if (options.isSparse()) {
+            spec.append("sparse", true);
+        }
+        if (options.getExpireAfter(TimeUnit.SECONDS) != null) {
+            spec.append("expireAfterSeconds", options.getExpireAfter(TimeUnit.SECONDS));
+        }
+        if (options.getPartialFilterExpression() != null) {
+            spec.append("partialFilterExpression", options.getPartialFilterExpression());
+        }
+        return spec;
+    }
+
+    private boolean matches(Document spec, Document actual) {
+        Document keys = (Document) spec.get("key");
+        boolean text = keys.containsValue(IndexType.TEXT.toIndexValue());
+        return (text || sameValues(keys, (Document) actual.get("key")))
+               && spec.getBoolean("unique", false) == actual.getBoolean("unique", false)
+               && spec.getBoolean("sparse", false) == actual.getBoolean("sparse", false)
+               && sameValue(spec.get("expireAfterSeconds"), actual.get("expireAfterSeconds"))
+               && Objects.equals(toBsonDocument(spec.get("partialFilterExpression")),
+            toBsonDocument(actual.get("partialFilterExpression")));
+    }
+
+    private BsonDocument toBsonDocument(Object value) {
+        return value instanceof Bson ? ((Bson) value).toBsonDocument(BsonDocument.class, mapper.getCodecRegistry()) : null;
+    }
+
+    private boolean sameValues(Document expected, Document actual) {
+        if (actual == null || !new ArrayList<>(expected.keySet()).equals(new ArrayList<>(actual.keySet()))) {
+            return false;
+        }
+        for (Entry<String, Object> entry : expected.entrySet()) {
+            if (!sameValue(entry.getValue(), actual.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean sameValue(Object expected, Object actual) {
+        if (expected instanceof Number && actual instanceof Number) {
+            return ((Number) expected).doubleValue() == ((Number) actual).doubleValue();
+        }
+        return Objects.equals(expected, actual);
     }
 
     String findField(EntityModel entityModel, IndexOptions options, String path) {
@@ -0,0 +1,33 @@
+package dev.morphia.annotations.experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps recently loaded entities of the annotated type in memory so that loading one by ID, or resolving a reference to one, can skip
+ * the round trip to the database.  Entries are evicted least recently used first once {@link #maxSize()} is reached and after
+ * {@link #expireAfterSeconds()} if set.  Writes through the Datastore invalidate the affected entries but writes made by other
+ * applications will only be seen once an entry expires or is invalidated explicitly.  This is intended for small, read mostly types.
+ *
+ * @see dev.morphia.mapping.experimental.EntityCache
+ * @since 2.2
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cached {
+    /**
+     * @return the maximum number of entities to keep
+     */
+    int maxSize() default 1000;
+
+    /**
+     * @return the number of seconds after which an entry expires or 0 to keep entries until they are evicted or invalidated
+     */
+    long expireAfterSeconds() default 0;
+}
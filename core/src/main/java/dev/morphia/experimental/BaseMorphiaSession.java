@@ -15,12 +15,17 @@ import dev.morphia.query.QueryFactory;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @morphia.internal
  * @morphia.experimental
  */
 public abstract class BaseMorphiaSession extends DatastoreImpl implements MorphiaSession {
     private final ClientSession session;
+    private final IdentityMap identityMap;
+    private final List<Runnable> afterCommit = new ArrayList<>();
 
     BaseMorphiaSession(ClientSession session,
                        MongoClient mongoClient,
@@ -29,6 +34,7 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
                        QueryFactory queryFactory) {
         super(database, mongoClient, mapper, queryFactory);
         this.session = session;
+        identityMap = mapper.getOptions().isSessionIdentityMap() ? new IdentityMap() : null;
     }
 
     @Override
@@ -70,21 +76,30 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
     @Override
     public void commitTransaction() {
         session.commitTransaction();
+        runAfterCommit();
     }
 
     @Override
     public void abortTransaction() {
+        if (identityMap != null) {
+            identityMap.clear();
+        }
+        clearAfterCommit();
         session.abortTransaction();
     }
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody) {
-        return session.withTransaction(transactionBody);
+        T result = session.withTransaction(transactionBody);
+        runAfterCommit();
+        return result;
     }
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody, TransactionOptions options) {
-        return session.withTransaction(transactionBody, options);
+        T result = session.withTransaction(transactionBody, options);
+        runAfterCommit();
+        return result;
     }
 
     @Override
@@ -140,13 +155,55 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
 
     @Override
     public void close() {
+        if (identityMap != null) {
+            identityMap.clear();
+        }
+        clearAfterCommit();
         session.close();
     }
 
+    /**
+     * Registers an action to run once the current transaction commits.  Actions are dropped if it is aborted.
+     *
+     * @param action the action
+     * @morphia.internal
+     * @since 2.2
+     */
+    public void afterCommit(Runnable action) {
+        synchronized (afterCommit) {
+            afterCommit.add(action);
+        }
+    }
+
+    /**
+     * @return the identity map for this session or null if it is not enabled
+     * @see dev.morphia.mapping.MapperOptions#isSessionIdentityMap()
+     * @since 2.2
+     */
+    @Nullable
+    public IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+
     /**
      * @return the session
      */
     public ClientSession getSession() {
         return session;
     }
+
+    private void clearAfterCommit() {
+        synchronized (afterCommit) {
+            afterCommit.clear();
+        }
+    }
+
+    private void runAfterCommit() {
+        List<Runnable> actions;
+        synchronized (afterCommit) {
+            actions = new ArrayList<>(afterCommit);
+            afterCommit.clear();
+        }
+        actions.forEach(Runnable::run);
+    }
 }
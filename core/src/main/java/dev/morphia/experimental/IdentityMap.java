@@ -0,0 +1,139 @@
+package dev.morphia.experimental;
+
+import dev.morphia.Datastore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the entities loaded or saved through a {@link MorphiaSession} keyed by collection and ID so that loading the same entity again
+ * inside the session returns the same instance without going back to the database.  Queries made through the session consult the map
+ * directly.  While the map is {@link #bind(Supplier) bound} to the current thread, e.g., for the body of
+ * {@link Datastore#withTransaction(dev.morphia.transactions.experimental.MorphiaTransaction)}, reference resolution consults it as well.
+ * Queries and writes made through any other datastore neither consult nor update it.  The map may be read and updated from several
+ * threads at once, e.g., when results are decoded in parallel.
+ *
+ * @morphia.internal
+ * @morphia.experimental
+ * @see dev.morphia.mapping.MapperOptions#isSessionIdentityMap()
+ * @since 2.2
+ */
+public class IdentityMap {
+    private static final ThreadLocal<IdentityMap> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Map<Object, Object>> entities = new ConcurrentHashMap<>();
+
+    /**
+     * Finds the map to use when resolving references loaded through the given datastore.  This is the session's own map if the datastore
+     * is a session with one or the map bound to the current thread otherwise.
+     *
+     * @param datastore the datastore
+     * @return the map to use or null if there is none
+     */
+    public static IdentityMap find(Datastore datastore) {
+        IdentityMap map = of(datastore);
+        return map != null ? map : CURRENT.get();
+    }
+
+    /**
+     * @param datastore the datastore
+     * @return the session's map if the datastore is a session with one or null otherwise
+     */
+    public static IdentityMap of(Datastore datastore) {
+        return datastore instanceof BaseMorphiaSession ? ((BaseMorphiaSession) datastore).getIdentityMap() : null;
+    }
+
+    /**
+     * Runs the given operation with this map bound to the current thread
+     *
+     * @param operation the operation to run
+     * @param <T>       the result type
+     * @return the result of the operation
+     */
+    public <T> T bind(Supplier<T> operation) {
+        IdentityMap previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return operation.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * @param collection the collection name
+     * @param id         the ID value
+     * @return the entity held for the ID or null if there is none
+     */
+    public Object get(String collection, Object id) {
+        Map<Object, Object> map = collection != null && id != null ? entities.get(collection) : null;
+        return map != null ? map.get(id) : null;
+    }
+
+    /**
+     * Stores an entity replacing any instance already held for its ID
+     *
+     * @param collection the collection name
+     * @param id         the ID value
+     * @param entity     the entity
+     */
+    public void put(String collection, Object id, Object entity) {
+        if (collection != null && id != null && entity != null) {
+            entities.computeIfAbsent(collection, k -> new ConcurrentHashMap<>()).put(id, entity);
+        }
+    }
+
+    /**
+     * Stores a freshly loaded entity unless an instance is already held for its ID
+     *
+     * @param collection the collection name
+     * @param id         the ID value
+     * @param entity     the entity
+     * @param <T>        the entity type
+     * @return the instance held for the ID
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T register(String collection, Object id, T entity) {
+        if (collection == null || id == null || entity == null) {
+            return entity;
+        }
+        Object existing = entities.computeIfAbsent(collection, k -> new ConcurrentHashMap<>()).putIfAbsent(id, entity);
+        return existing != null && entity.getClass().isInstance(existing) ? (T) existing : entity;
+    }
+
+    /**
+     * Removes the entity held for an ID
+     *
+     * @param collection the collection name
+     * @param id         the ID value
+     */
+    public void remove(String collection, Object id) {
+        Map<Object, Object> map = collection != null ? entities.get(collection) : null;
+        if (map != null && id != null) {
+            map.remove(id);
+        }
+    }
+
+    /**
+     * Removes every entity held for a collection
+     *
+     * @param collection the collection name
+     */
+    public void clear(String collection) {
+        if (collection != null) {
+            entities.remove(collection);
+        }
+    }
+
+    /**
+     * Removes every entity
+     */
+    public void clear() {
+        entities.clear();
+    }
+}
@@ -37,12 +37,14 @@ public class MorphiaSessionImpl extends BaseMorphiaSession {
     public <T> void insert(T entity, InsertOneOptions options) {
         super.insert(entity, new InsertOneOptions(options)
                                  .clientSession(findSession(options)));
+        hold(entity);
     }
 
     @Override
     public <T> void insert(List<T> entities, InsertManyOptions options) {
         super.insert(entities, new InsertManyOptions(options)
                                    .clientSession(findSession(options)));
+        entities.forEach(this::hold);
     }
 
     @Override
@@ -59,13 +61,23 @@ public class MorphiaSessionImpl extends BaseMorphiaSession {
 
     @Override
     public <T> List<T> save(List<T> entities, InsertManyOptions options) {
-        return super.save(entities, new InsertManyOptions(options)
-                                        .clientSession(findSession(options)));
+        List<T> saved = super.save(entities, new InsertManyOptions(options)
+                                                 .clientSession(findSession(options)));
+        saved.forEach(this::hold);
+        return saved;
     }
 
     @Override
     public <T> T save(T entity, InsertOneOptions options) {
-        return super.save(entity, new InsertOneOptions(options)
-                                      .clientSession(findSession(options)));
+        return hold(super.save(entity, new InsertOneOptions(options)
+                                           .clientSession(findSession(options))));
+    }
+
+    private <T> T hold(T entity) {
+        IdentityMap identityMap = getIdentityMap();
+        if (identityMap != null) {
+            identityMap.put(getMapper().getEntityModel(entity.getClass()).getCollectionName(), getMapper().getId(entity), entity);
+        }
+        return entity;
     }
 }
@@ -0,0 +1,129 @@
+package dev.morphia.experimental;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The few {@code Publisher} operators needed by {@link ReactiveDatastore} so that it does not depend on any particular reactive library.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+final class Publishers {
+    private Publishers() {
+    }
+
+    /**
+     * Creates the publisher only when subscribed to so that any changes made to an entity, e.g. setting its version, happen only when
+     * the write actually runs.  Any exception thrown while creating the publisher is signalled to the subscriber.
+     *
+     * @param supplier the publisher factory
+     * @param <T>      the published type
+     * @return the deferred publisher
+     */
+    static <T> Publisher<T> defer(Supplier<Publisher<T>> supplier) {
+        return subscriber -> {
+            Publisher<T> publisher;
+            try {
+                publisher = supplier.get();
+            } catch (RuntimeException e) {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(e);
+                return;
+            }
+            publisher.subscribe(subscriber);
+        };
+    }
+
+    /**
+     * Maps each published item
+     *
+     * @param source   the source publisher
+     * @param function the mapping function.  Any exception it throws cancels the source and is signalled to the subscriber.
+     * @param <S>      the source type
+     * @param <T>      the mapped type
+     * @return the mapped publisher
+     */
+    static <S, T> Publisher<T> map(Publisher<S> source, Function<S, T> function) {
+        return map(source, function, Function.identity());
+    }
+
+    /**
+     * Maps each published item and any error from the source
+     *
+     * @param source   the source publisher
+     * @param function the mapping function.  Any exception it throws cancels the source and is signalled to the subscriber.
+     * @param errors   maps errors from the source before they are passed on
+     * @param <S>      the source type
+     * @param <T>      the mapped type
+     * @return the mapped publisher
+     */
+    static <S, T> Publisher<T> map(Publisher<S> source, Function<S, T> function, Function<Throwable, Throwable> errors) {
+        return subscriber -> source.subscribe(new MappingSubscriber<>(subscriber, function, errors));
+    }
+
+    private static final class MappingSubscriber<S, T> implements Subscriber<S> {
+        private final Subscriber<? super T> downstream;
+        private final Function<S, T> function;
+        private final Function<Throwable, Throwable> errors;
+        private Subscription subscription;
+        private boolean done;
+
+        private MappingSubscriber(Subscriber<? super T> downstream, Function<S, T> function, Function<Throwable, Throwable> errors) {
+            this.downstream = downstream;
+            this.function = function;
+            this.errors = errors;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(S item) {
+            if (done) {
+                return;
+            }
+            T mapped;
+            try {
+                mapped = function.apply(item);
+            } catch (RuntimeException e) {
+                done = true;
+                subscription.cancel();
+                downstream.onError(e);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(errors.apply(throwable));
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
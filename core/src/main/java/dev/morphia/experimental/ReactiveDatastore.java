@@ -0,0 +1,434 @@
+package dev.morphia.experimental;
+
+import com.mongodb.CursorType;
+import com.mongodb.MongoWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import dev.morphia.Datastore;
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.aggregation.experimental.Aggregation;
+import dev.morphia.aggregation.experimental.AggregationImpl;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.PreparedQuery;
+import dev.morphia.query.Query;
+import dev.morphia.query.UpdateException;
+import dev.morphia.query.ValidationException;
+import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.FindTarget;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+import static java.util.Collections.emptyMap;
+
+/**
+ * Runs queries, updates, aggregations, and saves using the reactive streams driver so that no thread is held while waiting on the
+ * server.  Mapping, query validation, and the encoding of filters, updates, and pipeline stages are all shared with the {@link Datastore}
+ * given when creating an instance: queries and aggregations are built with that datastore as usual and only run here.
+ *
+ * <pre>
+ * ReactiveDatastore reactive = new ReactiveDatastore(MongoClients.create(), datastore);
+ * Publisher&lt;User&gt; users = reactive.find(datastore.find(User.class).filter(gt("age", 21)));
+ * </pre>
+ * <p>
+ * Results are fetched as they are requested by the subscriber.  Note that references are resolved using the blocking datastore as
+ * entities are decoded, client sessions are not supported, and {@link FindOptions#batchReferences(boolean)} is ignored.
+ * <p>
+ * The {@code mongodb-driver-reactivestreams} dependency is optional and must be added to the application to use this class.
+ *
+ * @morphia.experimental
+ * @since 2.2
+ */
+@SuppressWarnings("unchecked")
+public class ReactiveDatastore {
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final MongoDatabase database;
+
+    /**
+     * Creates a reactive datastore for the same database as the given datastore
+     *
+     * @param mongoClient the reactive client to use
+     * @param datastore   the datastore to share mapping with
+     */
+    public ReactiveDatastore(MongoClient mongoClient, Datastore datastore) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+        this.database = mongoClient.getDatabase(datastore.getDatabase().getName())
+                                   .withCodecRegistry(mapper.getCodecRegistry());
+    }
+
+    /**
+     * Runs an aggregation
+     *
+     * @param aggregation the aggregation to run
+     * @param resultType  the type of the results
+     * @param <R>         the result type
+     * @return the results
+     */
+    public <R> Publisher<R> aggregate(Aggregation<?> aggregation, Class<R> resultType) {
+        AggregationImpl<?> impl = (AggregationImpl<?>) aggregation;
+        return database.getCollection(impl.getCollection().getNamespace().getCollectionName())
+                       .aggregate(impl.getDocuments(), resultType);
+    }
+
+    /**
+     * Counts the documents matching a query
+     *
+     * @param query the query
+     * @param <T>   the query type
+     * @return the count
+     */
+    public <T> Publisher<Long> count(Query<T> query) {
+        return count(query.prepare(new FindOptions()), emptyMap());
+    }
+
+    /**
+     * Counts the documents matching a prepared query
+     *
+     * @param query  the query
+     * @param values the values to bind by parameter name
+     * @param <T>    the query type
+     * @return the count
+     */
+    public <T> Publisher<Long> count(PreparedQuery<T> query, Map<String, ?> values) {
+        return Publishers.defer(() -> collection(query).countDocuments(query.bind(values)));
+    }
+
+    /**
+     * Deletes the documents matching a query
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param <T>     the query type
+     * @return the results
+     */
+    public <T> Publisher<DeleteResult> delete(Query<T> query, DeleteOptions options) {
+        return Publishers.defer(() -> {
+            PreparedQuery<T> prepared = query.prepare(new FindOptions());
+            MongoCollection<T> collection = withWriteConcern(collection(prepared), prepared.getType(), options.writeConcern());
+            return options.isMulti()
+                   ? collection.deleteMany(prepared.getFilter(), options)
+                   : collection.deleteOne(prepared.getFilter(), options);
+        });
+    }
+
+    /**
+     * Finds the entities matching a query
+     *
+     * @param query the query
+     * @param <T>   the query type
+     * @return the results
+     */
+    public <T> Publisher<T> find(Query<T> query) {
+        return find(query, new FindOptions());
+    }
+
+    /**
+     * Finds the entities matching a query
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param <T>     the query type
+     * @return the results
+     */
+    public <T> Publisher<T> find(Query<T> query, FindOptions options) {
+        return find(query.prepare(options), emptyMap());
+    }
+
+    /**
+     * Finds the entities matching a prepared query
+     *
+     * @param query  the query
+     * @param values the values to bind by parameter name
+     * @param <T>    the query type
+     * @return the results
+     */
+    public <T> Publisher<T> find(PreparedQuery<T> query, Map<String, ?> values) {
+        return Publishers.defer(() -> {
+            FindOptions options = query.getOptions();
+            return apply(collection(query).find(query.bind(values)), options, query.getProjection(), query.getSort());
+        });
+    }
+
+    /**
+     * @return the datastore used for mapping
+     */
+    public Datastore getDatastore() {
+        return datastore;
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return the entity once it has been written
+     */
+    public <T> Publisher<T> insert(T entity) {
+        return insert(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity  the entity to insert
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the entity once it has been written
+     */
+    public <T> Publisher<T> insert(T entity, InsertOneOptions options) {
+        return Publishers.defer(() -> {
+            FieldModel versionField = mapper.getEntityModel(entity.getClass()).getVersionField();
+            if (versionField != null) {
+                Object value = versionField.getValue(entity);
+                if (value != null && !value.equals(0)) {
+                    throw new ValidationException(Sofia.versionManuallySet());
+                }
+                versionField.setValue(entity, 1L);
+            }
+            return Publishers.map(collection(entity, options.writeConcern()).insertOne(entity, options.getOptions()), r -> entity);
+        });
+    }
+
+    /**
+     * Saves an entity, inserting or replacing it as needed.  Versioned entities are updated only if the stored version matches.
+     *
+     * @param entity the entity to save
+     * @param <T>    the entity type
+     * @return the entity once it has been written
+     * @see Datastore#save(Object)
+     */
+    public <T> Publisher<T> save(T entity) {
+        return save(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Saves an entity, inserting or replacing it as needed.  Versioned entities are updated only if the stored version matches.
+     *
+     * @param entity  the entity to save
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the entity once it has been written
+     * @see Datastore#save(Object, InsertOneOptions)
+     */
+    public <T> Publisher<T> save(T entity, InsertOneOptions options) {
+        if (entity == null) {
+            throw new UpdateException(Sofia.cannotPersistNullEntity());
+        }
+        return Publishers.defer(() -> {
+            EntityModel model = mapper.getEntityModel(entity.getClass());
+            MongoCollection<T> collection = collection(entity, options.writeConcern());
+            FieldModel versionField = model.getVersionField();
+            Object id = model.getIdField().getValue(entity);
+            if (versionField != null) {
+                Long oldVersion = (Long) versionField.getValue(entity);
+                if (oldVersion == null || oldVersion == 0) {
+                    versionField.setValue(entity, 1L);
+                    return Publishers.map(collection.insertOne(entity, options.getOptions()), r -> entity, e -> {
+                        versionField.setValue(entity, oldVersion);
+                        return e instanceof MongoWriteException
+                               ? new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(), id))
+                               : e;
+                    });
+                } else if (id != null) {
+                    return saveVersioned(entity, collection, versionField, id, oldVersion, options);
+                }
+            }
+            if (id == null) {
+                return Publishers.map(collection.insertOne(entity, options.getOptions()), r -> entity);
+            }
+            ReplaceOptions replaceOptions = new ReplaceOptions()
+                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
+                                                .upsert(true);
+            return Publishers.map(collection.replaceOne(new Document("_id", id), entity, replaceOptions), r -> entity);
+        });
+    }
+
+    /**
+     * Updates the documents matching a query
+     *
+     * @param query   the query
+     * @param options the options to apply
+     * @param first   the first update operator
+     * @param updates any other update operators
+     * @param <T>     the query type
+     * @return the results
+     */
+    public <T> Publisher<UpdateResult> update(Query<T> query, UpdateOptions options, UpdateOperator first, UpdateOperator... updates) {
+        return Publishers.defer(() -> {
+            PreparedQuery<T> prepared = query.prepare(new FindOptions());
+            BsonDocument update = query.update(first, updates).toBsonDocument();
+            MongoCollection<T> collection = withWriteConcern(collection(prepared), prepared.getType(), options.writeConcern());
+            return options.isMulti()
+                   ? collection.updateMany(prepared.getFilter(), update, options)
+                   : collection.updateOne(prepared.getFilter(), update, options);
+        });
+    }
+
+    private <T> FindPublisher<T> apply(FindPublisher<T> publisher, FindOptions options, Document projection, Document sort) {
+        options.apply(new PublisherTarget(publisher), projection, sort);
+        return publisher;
+    }
+
+    private <T> MongoCollection<T> collection(PreparedQuery<T> query) {
+        FindOptions options = query.getOptions();
+        MongoCollection<T> collection = database.getCollection(query.getCollection().getNamespace().getCollectionName(),
+            query.getType());
+        if (options.getReadPreference() != null) {
+            collection = collection.withReadPreference(options.getReadPreference());
+        }
+        if (options.getReadConcern() != null) {
+            collection = collection.withReadConcern(options.getReadConcern());
+        }
+        return collection;
+    }
+
+    private <T> MongoCollection<T> collection(T entity, WriteConcern writeConcern) {
+        Class<T> type = (Class<T>) entity.getClass();
+        return withWriteConcern(database.getCollection(mapper.getEntityModel(type).getCollectionName(), type), type, writeConcern);
+    }
+
+    private <T> Publisher<T> saveVersioned(T entity, MongoCollection<T> collection, FieldModel versionField, Object id, Long oldVersion,
+                                           InsertOneOptions options) {
+        Query<T> query = datastore.<T>find(collection.getNamespace().getCollectionName())
+                                  .filter(eq("_id", id), eq(versionField.getMappedName(), oldVersion));
+        BsonDocument update = query.update(set(entity)).toBsonDocument();
+        com.mongodb.client.model.UpdateOptions updateOptions = new com.mongodb.client.model.UpdateOptions()
+                                                                   .bypassDocumentValidation(options.getBypassDocumentValidation());
+        return Publishers.map(collection.updateOne(query.toBsonDocument(), update, updateOptions), result -> {
+            if (result.wasAcknowledged() && result.getModifiedCount() != 1) {
+                throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(), id));
+            }
+            versionField.setValue(entity, oldVersion + 1);
+            return entity;
+        });
+    }
+
+    private <T> MongoCollection<T> withWriteConcern(MongoCollection<T> collection, Class<?> type, WriteConcern writeConcern) {
+        WriteConcern applied = writeConcern != null ? writeConcern : mapper.getWriteConcern(type);
+        return applied != null ? collection.withWriteConcern(applied) : collection;
+    }
+
+    private static final class PublisherTarget implements FindTarget {
+        private final FindPublisher<?> publisher;
+
+        private PublisherTarget(FindPublisher<?> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void batchSize(int batchSize) {
+            publisher.batchSize(batchSize);
+        }
+
+        @Override
+        public void collation(Collation collation) {
+            publisher.collation(collation);
+        }
+
+        @Override
+        public void comment(String comment) {
+            publisher.comment(comment);
+        }
+
+        @Override
+        public void cursorType(CursorType cursorType) {
+            publisher.cursorType(cursorType);
+        }
+
+        @Override
+        public void hint(Document hint) {
+            publisher.hint(hint);
+        }
+
+        @Override
+        public void hintString(String hint) {
+            publisher.hintString(hint);
+        }
+
+        @Override
+        public void limit(int limit) {
+            publisher.limit(limit);
+        }
+
+        @Override
+        public void max(Document max) {
+            publisher.max(max);
+        }
+
+        @Override
+        public void maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit) {
+            publisher.maxAwaitTime(maxAwaitTime, timeUnit);
+        }
+
+        @Override
+        public void maxTime(long maxTime, TimeUnit timeUnit) {
+            publisher.maxTime(maxTime, timeUnit);
+        }
+
+        @Override
+        public void min(Document min) {
+            publisher.min(min);
+        }
+
+        @Override
+        public void noCursorTimeout(boolean noCursorTimeout) {
+            publisher.noCursorTimeout(noCursorTimeout);
+        }
+
+        @Override
+        public void oplogReplay(boolean oplogReplay) {
+            publisher.oplogReplay(oplogReplay);
+        }
+
+        @Override
+        public void partial(boolean partial) {
+            publisher.partial(partial);
+        }
+
+        @Override
+        public void projection(Document projection) {
+            publisher.projection(projection);
+        }
+
+        @Override
+        public void returnKey(boolean returnKey) {
+            publisher.returnKey(returnKey);
+        }
+
+        @Override
+        public void showRecordId(boolean showRecordId) {
+            publisher.showRecordId(showRecordId);
+        }
+
+        @Override
+        public void skip(int skip) {
+            publisher.skip(skip);
+        }
+
+        @Override
+        public void sort(Document sort) {
+            publisher.sort(sort);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dev.morphia.internal;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the raw form of entities as they were loaded so that later saves can send only the fields which have changed.  Entities are
+ * tracked by identity and held weakly so tracking an entity does not keep it from being garbage collected.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ChangeTracker {
+    private final Map<IdentityKey, RawBsonDocument> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Compares two forms of an entity and creates the update needed to turn the first in to the second.  Only top level fields are
+     * compared.
+     *
+     * @param snapshot the state as last loaded or saved
+     * @param current  the current state
+     * @param ignored  a field to leave out of the comparison.  may be null.
+     * @return the update document.  This will be empty if nothing has changed.
+     */
+    public static BsonDocument diff(BsonDocument snapshot, BsonDocument current, String ignored) {
+        BsonDocument set = new BsonDocument();
+        BsonDocument unset = new BsonDocument();
+        for (Entry<String, BsonValue> entry : current.entrySet()) {
+            String name = entry.getKey();
+            if (!name.equals("_id") && !name.equals(ignored) && !entry.getValue().equals(snapshot.get(name))) {
+                set.put(name, entry.getValue());
+            }
+        }
+        for (String name : snapshot.keySet()) {
+            if (!name.equals("_id") && !name.equals(ignored) && !current.containsKey(name)) {
+                unset.put(name, new BsonString(""));
+            }
+        }
+
+        BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.put("$set", set);
+        }
+        if (!unset.isEmpty()) {
+            update.put("$unset", unset);
+        }
+        return update;
+    }
+
+    /**
+     * Stops tracking an entity
+     *
+     * @param entity the entity
+     */
+    public void forget(Object entity) {
+        snapshots.remove(new IdentityKey(entity, null));
+    }
+
+    /**
+     * @param entity the entity
+     * @return the last recorded state of the entity or null if it is not tracked
+     */
+    public RawBsonDocument get(Object entity) {
+        purge();
+        return snapshots.get(new IdentityKey(entity, null));
+    }
+
+    /**
+     * Records the state of an entity
+     *
+     * @param entity   the entity
+     * @param snapshot the state as it is stored in the database
+     */
+    public void record(Object entity, RawBsonDocument snapshot) {
+        purge();
+        snapshots.put(new IdentityKey(entity, queue), snapshot);
+    }
+
+    /**
+     * @return the number of entities being tracked
+     */
+    public int size() {
+        purge();
+        return snapshots.size();
+    }
+
+    private void purge() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) o).get();
+        }
+    }
+}
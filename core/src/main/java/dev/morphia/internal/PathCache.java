@@ -0,0 +1,150 @@
+package dev.morphia.internal;
+
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache of resolved {@link PathTarget}s.  Entries are keyed by the root model, validation flag, and a template of the path in
+ * which positional segments ({@code $}, {@code $[x]}, and array indexes) are replaced by a placeholder so that {@code items.0.name} and
+ * {@code items.1.name} share a single entry.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class PathCache {
+    private static final String POSITIONAL = "$";
+
+    private final Map<Key, Resolution> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Creates a cache
+     *
+     * @param maxSize the maximum number of entries to hold.  0 disables caching.
+     */
+    public PathCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    static boolean isPositional(String segment) {
+        if (segment.equals(POSITIONAL) || segment.startsWith("$[") && segment.endsWith("]")) {
+            return true;
+        }
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Clears the cache
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    Key key(EntityModel root, List<String> segments, boolean validate) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        StringBuilder template = new StringBuilder();
+        for (String segment : segments) {
+            if (template.length() != 0) {
+                template.append('.');
+            }
+            template.append(isPositional(segment) ? POSITIONAL : segment);
+        }
+        return new Key(root, template.toString(), validate);
+    }
+
+    Resolution get(Key key) {
+        return key != null ? cache.get(key) : null;
+    }
+
+    void put(Key key, List<String> original, List<String> translated, FieldModel target) {
+        if (key != null) {
+            if (cache.size() >= maxSize) {
+                cache.clear();
+            }
+            String[] segments = new String[translated.size()];
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = isPositional(original.get(i)) ? null : translated.get(i);
+            }
+            cache.put(key, new Resolution(segments, target));
+        }
+    }
+
+    static final class Key {
+        private final EntityModel root;
+        private final String template;
+        private final boolean validate;
+        private final int hash;
+
+        private Key(EntityModel root, String template, boolean validate) {
+            this.root = root;
+            this.template = template;
+            this.validate = validate;
+            hash = Objects.hash(System.identityHashCode(root), template, validate);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return root == that.root && validate == that.validate && template.equals(that.template);
+        }
+    }
+
+    static final class Resolution {
+        private final String[] segments;
+        private final FieldModel target;
+
+        private Resolution(String[] segments, FieldModel target) {
+            this.segments = segments;
+            this.target = target;
+        }
+
+        /**
+         * Copies the cached translation on to the segments of a path.  Positional segments are left as they are.
+         *
+         * @param path the segments to update
+         * @return the target field
+         */
+        FieldModel apply(List<String> path) {
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i] != null) {
+                    path.set(i, segments[i]);
+                }
+            }
+            return target;
+        }
+    }
+}
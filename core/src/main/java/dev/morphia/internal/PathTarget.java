@@ -130,6 +130,20 @@ public class PathTarget {
     }
 
     private void resolve() {
+        PathCache cache = mapper.getPathCache();
+        PathCache.Key key = cache.key(root, segments, validateNames);
+        PathCache.Resolution resolution = cache.get(key);
+        if (resolution != null) {
+            target = resolution.apply(segments);
+            resolved = true;
+        } else {
+            List<String> original = key != null ? List.copyOf(segments) : null;
+            walk();
+            cache.put(key, original, segments, target);
+        }
+    }
+
+    private void walk() {
         context = this.root;
         position = 0;
         FieldModel field = null;
@@ -137,7 +151,7 @@ public class PathTarget {
             String segment = next();
 
             // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
+            if (PathCache.isPositional(segment)) {
                 if (!hasNext()) {
                     break;
                 }
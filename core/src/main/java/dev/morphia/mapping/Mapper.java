@@ -9,7 +9,14 @@ import dev.morphia.Key;
 import dev.morphia.aggregation.experimental.codecs.AggregationCodecProvider;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PostPersist;
+import dev.morphia.annotations.PreLoad;
+import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.experimental.Cached;
 import dev.morphia.annotations.experimental.EmbeddedBuilder;
+import dev.morphia.internal.ChangeTracker;
+import dev.morphia.internal.PathCache;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.EnumCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
@@ -18,25 +25,40 @@ import dev.morphia.mapping.codec.PrimitiveCodecRegistry;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.experimental.EntityCache;
 import dev.morphia.mapping.validation.MappingValidator;
 import dev.morphia.sofia.Sofia;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -64,19 +86,39 @@ public class Mapper {
      */
     public static final String IGNORED_FIELDNAME = ".";
 
+    /**
+     * The classpath resource listing the entities found at build time by {@code morphia-processor}, one binary class name per line.
+     *
+     * @morphia.internal
+     * @see #mapPackage(String)
+     * @since 2.2
+     */
+    public static final String ENTITY_INDEX = "META-INF/morphia/entities.idx";
+
+    private static final Logger LOG = LoggerFactory.getLogger(Mapper.class);
+
+    private static final Map<Class<? extends Annotation>, String> INTERCEPTOR_METHODS = Map.of(PreLoad.class, "preLoad",
+        PostLoad.class, "postLoad",
+        PrePersist.class, "prePersist",
+        PostPersist.class, "postPersist");
+
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<Class, EntityModel> mappedEntities = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<EntityModel>> mappedEntitiesByCollection = new ConcurrentHashMap<>();
+    private final Map<String, EntityCache> entityCaches = new ConcurrentHashMap<>();
 
     //EntityInterceptors; these are called after EntityListeners and lifecycle methods on an Entity, for all Entities
     private final List<EntityInterceptor> interceptors = new LinkedList<>();
+    private final Set<Class<? extends Annotation>> interceptedEvents = new CopyOnWriteArraySet<>();
     private final MapperOptions options;
     private final DiscriminatorLookup discriminatorLookup = new DiscriminatorLookup(Collections.emptyMap(), Collections.emptySet());
     private final MorphiaCodecProvider morphiaCodecProvider;
     private final Datastore datastore;
     private final CodecRegistry codecRegistry;
+    private final PathCache pathCache;
+    private final ChangeTracker changeTracker = new ChangeTracker();
 
     /**
      * Creates a Mapper with the given options.
@@ -89,6 +131,7 @@ public class Mapper {
     public Mapper(Datastore datastore, CodecRegistry codecRegistry, MapperOptions options) {
         this.datastore = datastore;
         this.options = options;
+        pathCache = new PathCache(options.getPathCacheSize());
         morphiaCodecProvider = new MorphiaCodecProvider(this, datastore);
         this.codecRegistry = fromRegistries(
             fromProviders(new MorphiaTypesCodecProvider(this)),
@@ -107,6 +150,11 @@ public class Mapper {
      */
     public void addInterceptor(EntityInterceptor ei) {
         interceptors.add(ei);
+        INTERCEPTOR_METHODS.forEach((event, name) -> {
+            if (overrides(ei, name)) {
+                interceptedEvents.add(event);
+            }
+        });
     }
 
     /**
@@ -299,10 +347,14 @@ public class Mapper {
                 throw new MappingException(entityOrEmbedded(type.getName()));
             }
         }
-        return classes.stream()
-                      .map(this::getEntityModel)
-                      .filter(Objects::nonNull)
-                      .collect(Collectors.toList());
+        List<EntityModel> models = classes.stream()
+                                          .map(this::getEntityModel)
+                                          .filter(Objects::nonNull)
+                                          .collect(Collectors.toList());
+        if (options.isWarmUpCodecs()) {
+            warmUp(models);
+        }
+        return models;
     }
 
     /**
@@ -386,6 +438,46 @@ public class Mapper {
         return options;
     }
 
+    /**
+     * @param type the entity type
+     * @return the cache for the type's collection or null if the type is not annotated with {@link Cached}
+     * @see Cached
+     * @since 2.2
+     */
+    public EntityCache getEntityCache(Class<?> type) {
+        EntityModel model = getEntityModel(type);
+        return model != null && model.getEntityAnnotation() != null ? getEntityCache(model.getCollectionName()) : null;
+    }
+
+    /**
+     * @param collection the collection name
+     * @return the cache for the collection or null if no type mapped to it is annotated with {@link Cached}
+     * @morphia.internal
+     * @since 2.2
+     */
+    public EntityCache getEntityCache(String collection) {
+        return collection != null ? entityCaches.get(collection) : null;
+    }
+
+    /**
+     * @return the tracker holding the loaded state of entities or null if change tracking is not enabled
+     * @morphia.internal
+     * @see MapperOptions.Builder#trackChanges(boolean)
+     * @since 2.2
+     */
+    public ChangeTracker getChangeTracker() {
+        return options.isTrackChanges() ? changeTracker : null;
+    }
+
+    /**
+     * @return the cache of resolved field paths
+     * @morphia.internal
+     * @since 2.2
+     */
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
     /**
      * Sets the options this Mapper should use
      *
@@ -423,6 +515,15 @@ public class Mapper {
         return !interceptors.isEmpty();
     }
 
+    /**
+     * @param event the lifecycle event type
+     * @return true if any global interceptor handles that event
+     * @since 2.2
+     */
+    public boolean hasInterceptors(Class<? extends Annotation> event) {
+        return interceptedEvents.contains(event);
+    }
+
     /**
      * Checks if a type is mappable or not
      *
@@ -476,17 +577,26 @@ public class Mapper {
     }
 
     /**
-     * Tries to map all classes in the package specified.
+     * Tries to map all classes in the package specified.  If any {@value #ENTITY_INDEX} resources list classes in the package, only those
+     * classes are mapped.  Otherwise the classpath is scanned for them.  An index only lists the entities whose sources were compiled with
+     * the processor so a package whose entities are split across builds which do not share an output directory should not rely on it.
      *
      * @param packageName the name of the package to process
      */
     public synchronized void mapPackage(String packageName) {
         try {
-            getClasses(getClass().getClassLoader(), packageName, getOptions().isMapSubPackages())
-                .stream()
-                .map(this::getEntityModel)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+            ClassLoader loader = getClass().getClassLoader();
+            List<Class> classes = getIndexedClasses(loader, packageName, getOptions().isMapSubPackages());
+            if (classes.isEmpty()) {
+                classes = getClasses(loader, packageName, getOptions().isMapSubPackages());
+            }
+            List<EntityModel> models = classes.stream()
+                                              .map(this::getEntityModel)
+                                              .filter(Objects::nonNull)
+                                              .collect(Collectors.toList());
+            if (options.isWarmUpCodecs()) {
+                warmUp(models);
+            }
         } catch (ClassNotFoundException e) {
             throw new MappingException("Could not get map classes from package " + packageName, e);
         }
@@ -524,7 +634,7 @@ public class Mapper {
      * @param <T>    the entity type
      */
     public <T> void refresh(T entity) {
-        Codec<T> refreshCodec = morphiaCodecProvider.getRefreshCodec(entity, getCodecRegistry());
+        MorphiaCodec<T> codec = morphiaCodecProvider.get((Class<T>) entity.getClass(), getCodecRegistry());
 
         MongoCollection<?> collection = getCollection(entity.getClass());
         Document id = collection.find(new Document("_id", getEntityModel(entity.getClass())
@@ -532,7 +642,30 @@ public class Mapper {
                                                               .getValue(entity)), Document.class)
                                 .first();
 
-        refreshCodec.decode(new DocumentReader(id), DecoderContext.builder().checkedDiscriminator(true).build());
+        codec.decode(new DocumentReader(id), DecoderContext.builder().checkedDiscriminator(true).build(), entity);
+        ChangeTracker tracker = getChangeTracker();
+        if (tracker != null) {
+            tracker.record(entity, new RawBsonDocument(id, getCodecRegistry().get(Document.class)));
+        }
+    }
+
+    /**
+     * Builds the codecs for every mapped entity along with the codecs for their fields so that the first reads and writes of each type
+     * don't pay that cost.  This is typically called once at startup after mapping the application's entities.
+     *
+     * @see MapperOptions.Builder#warmUpCodecs(boolean)
+     * @since 2.2
+     */
+    public void warmUp() {
+        warmUp(getMappedEntities());
+    }
+
+    private void warmUp(List<EntityModel> models) {
+        for (EntityModel model : models) {
+            if (!model.getType().isInterface()) {
+                codecRegistry.get(model.getType());
+            }
+        }
     }
 
     /**
@@ -581,19 +714,41 @@ public class Mapper {
         if (annotation != null && annotation.useDiscriminator()
             && !query.containsKey("_id")
             && !query.containsKey(model.getDiscriminatorKey())) {
-            List<EntityModel> subtypes = model.getSubtypes();
-            List<String> values = new ArrayList<>();
-            values.add(model.getDiscriminator());
-            if (options.isEnablePolymorphicQueries()) {
-                for (EntityModel subtype : subtypes) {
-                    values.add(subtype.getDiscriminator());
-                }
-            }
             query.put(model.getDiscriminatorKey(),
-                new Document("$in", values));
+                new Document("$in", discriminatorValues(model)));
+        }
+    }
+
+    /**
+     * Updates a query with any discriminators from subtypes if polymorphic queries are enabled
+     *
+     * @param model the query model
+     * @param query the query document
+     * @since 2.2
+     */
+    public void updateQueryWithDiscriminators(EntityModel model, BsonDocument query) {
+        Entity annotation = model != null ? model.getEntityAnnotation() : null;
+        if (annotation != null && annotation.useDiscriminator()
+            && !query.containsKey("_id")
+            && !query.containsKey(model.getDiscriminatorKey())) {
+            BsonArray values = new BsonArray();
+            for (String value : discriminatorValues(model)) {
+                values.add(new BsonString(value));
+            }
+            query.put(model.getDiscriminatorKey(), new BsonDocument("$in", values));
         }
     }
 
+    private List<String> discriminatorValues(EntityModel model) {
+        List<String> values = new ArrayList<>();
+        values.add(model.getDiscriminator());
+        if (options.isEnablePolymorphicQueries()) {
+            for (EntityModel subtype : model.getSubtypes()) {
+                values.add(subtype.getDiscriminator());
+            }
+        }
+        return values;
+    }
 
     private String discriminatorKey(Class<?> type) {
         return mappedEntities.get(type)
@@ -616,12 +771,44 @@ public class Mapper {
 
         try (ScanResult scanResult = classGraph.scan()) {
             for (ClassInfo classInfo : scanResult.getAllClasses()) {
-                classes.add(Class.forName(classInfo.getName(), true, loader));
+                classes.add(Class.forName(classInfo.getName(), false, loader));
             }
         }
         return new ArrayList<>(classes);
     }
 
+    private List<Class> getIndexedClasses(ClassLoader loader, String packageName, boolean mapSubPackages) {
+        final Set<Class> classes = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> indexes = loader.getResources(ENTITY_INDEX);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String name = line.trim();
+                        if (!name.isEmpty() && !name.startsWith("#") && inPackage(name, packageName, mapSubPackages)) {
+                            try {
+                                classes.add(Class.forName(name, false, loader));
+                            } catch (ClassNotFoundException e) {
+                                LOG.debug("Skipping " + name + " listed in " + index + ": class not found");
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new MappingException(Sofia.couldNotReadEntityIndex(e.getMessage()), e);
+        }
+        return new ArrayList<>(classes);
+    }
+
+    private static boolean inPackage(String className, String packageName, boolean mapSubPackages) {
+        int dot = className.lastIndexOf('.');
+        String classPackage = dot == -1 ? "" : className.substring(0, dot);
+        return classPackage.equals(packageName) || mapSubPackages && classPackage.startsWith(packageName + ".");
+    }
+
     private <T> boolean hasAnnotation(Class<T> clazz, List<Class<? extends Annotation>> annotations) {
         if (clazz == null) {
             return false;
@@ -640,10 +827,15 @@ public class Mapper {
 
     private EntityModel register(EntityModel entityModel) {
         discriminatorLookup.addModel(entityModel);
+        pathCache.clear();
         mappedEntities.put(entityModel.getType(), entityModel);
         if (entityModel.getEntityAnnotation() != null) {
             mappedEntitiesByCollection.computeIfAbsent(entityModel.getCollectionName(), s -> new CopyOnWriteArraySet<>())
                                       .add(entityModel);
+            Cached cached = entityModel.getType().getAnnotation(Cached.class);
+            if (cached != null) {
+                entityCaches.computeIfAbsent(entityModel.getCollectionName(), s -> new EntityCache(cached, codecRegistry));
+            }
         }
 
         if (!entityModel.isInterface()) {
@@ -655,4 +847,12 @@ public class Mapper {
         return entityModel;
     }
 
+    private static boolean overrides(EntityInterceptor ei, String name) {
+        try {
+            return !ei.getClass().getMethod(name, Object.class, Document.class, Mapper.class).getDeclaringClass()
+                      .equals(EntityInterceptor.class);
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
 }
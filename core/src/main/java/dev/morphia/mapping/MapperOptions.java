@@ -39,6 +39,11 @@ public class MapperOptions {
     private final UuidRepresentation uuidRepresentation;
     private final QueryFactory queryFactory;
     private final boolean enablePolymorphicQueries;
+    private final int pathCacheSize;
+    private final boolean primitiveLists;
+    private final boolean sessionIdentityMap;
+    private final boolean trackChanges;
+    private final boolean warmUpCodecs;
     private ClassLoader classLoader;
 
     private MapperOptions(Builder builder) {
@@ -58,6 +63,11 @@ public class MapperOptions {
         queryFactory = builder.queryFactory;
         enablePolymorphicQueries = builder.enablePolymorphicQueries;
         dateStorage = builder.dateStorage;
+        pathCacheSize = builder.pathCacheSize;
+        primitiveLists = builder.primitiveLists;
+        sessionIdentityMap = builder.sessionIdentityMap;
+        trackChanges = builder.trackChanges;
+        warmUpCodecs = builder.warmUpCodecs;
     }
 
     /**
@@ -81,6 +91,11 @@ public class MapperOptions {
         builder.creator = original.getCreator();
         builder.classLoader = original.getClassLoader();
         builder.dateStorage = original.getDateStorage();
+        builder.pathCacheSize = original.getPathCacheSize();
+        builder.primitiveLists = original.isPrimitiveLists();
+        builder.sessionIdentityMap = original.isSessionIdentityMap();
+        builder.trackChanges = original.isTrackChanges();
+        builder.warmUpCodecs = original.isWarmUpCodecs();
         return builder;
     }
 
@@ -161,6 +176,14 @@ public class MapperOptions {
         return fieldNaming;
     }
 
+    /**
+     * @return the maximum number of resolved field paths to cache
+     * @since 2.2
+     */
+    public int getPathCacheSize() {
+        return pathCacheSize;
+    }
+
     /**
      * @return the query factory used by the Datastore
      * @since 2.0
@@ -204,6 +227,25 @@ public class MapperOptions {
         return mapSubPackages;
     }
 
+    /**
+     * @return true if {@code List<Long>} and {@code List<Double>} fields are decoded in to lists backed by primitive arrays
+     * @see dev.morphia.mapping.codec.LongList
+     * @see dev.morphia.mapping.codec.DoubleList
+     * @since 2.2
+     */
+    public boolean isPrimitiveLists() {
+        return primitiveLists;
+    }
+
+    /**
+     * @return true if sessions should keep the entities they load and save in an identity map
+     * @see dev.morphia.experimental.IdentityMap
+     * @since 2.2
+     */
+    public boolean isSessionIdentityMap() {
+        return sessionIdentityMap;
+    }
+
     /**
      * @return true if Morphia should store empty values for lists/maps/sets/arrays
      */
@@ -218,6 +260,23 @@ public class MapperOptions {
         return storeNulls;
     }
 
+    /**
+     * @return true if Morphia should track the loaded state of entities to save only changed fields
+     * @since 2.2
+     */
+    public boolean isTrackChanges() {
+        return trackChanges;
+    }
+
+    /**
+     * @return true if Morphia should build the codecs of entities as they are mapped rather than on first use
+     * @see Mapper#warmUp()
+     * @since 2.2
+     */
+    public boolean isWarmUpCodecs() {
+        return warmUpCodecs;
+    }
+
     /**
      * A builder class for setting mapping options
      */
@@ -231,9 +290,14 @@ public class MapperOptions {
         private boolean cacheClassLookups;
         private boolean mapSubPackages;
         private boolean enablePolymorphicQueries;
+        private boolean trackChanges;
+        private boolean warmUpCodecs;
         private MorphiaInstanceCreator creator;
         private ClassLoader classLoader;
         private DateStorage dateStorage = DateStorage.UTC;
+        private int pathCacheSize = 1024;
+        private boolean primitiveLists;
+        private boolean sessionIdentityMap;
         private String discriminatorKey = "_t";
         private DiscriminatorFunction discriminator = DiscriminatorFunction.simpleName();
         private NamingStrategy collectionNaming = NamingStrategy.camelCase();
@@ -396,6 +460,33 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Sets the maximum number of resolved field paths to cache.  Positional segments such as {@code $} or array indexes do not
+         * count as distinct paths.  The default is 1024 and 0 disables the cache.
+         *
+         * @param pathCacheSize the maximum number of paths to cache
+         * @return this
+         * @since 2.2
+         */
+        public Builder pathCacheSize(int pathCacheSize) {
+            this.pathCacheSize = pathCacheSize;
+            return this;
+        }
+
+        /**
+         * Decodes {@code List<Long>} and {@code List<Double>} fields in to a {@link dev.morphia.mapping.codec.LongList} or
+         * {@link dev.morphia.mapping.codec.DoubleList} which hold their values in a primitive array rather than as boxed values.  Such
+         * lists can not hold nulls.  The default is false.
+         *
+         * @param primitiveLists true to use primitive backed lists
+         * @return this
+         * @since 2.2
+         */
+        public Builder primitiveLists(boolean primitiveLists) {
+            this.primitiveLists = primitiveLists;
+            return this;
+        }
+
         /**
          * @param queryFactory the query factory to use when creating queries
          * @return this
@@ -405,6 +496,21 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Enables a first level cache on each {@link dev.morphia.experimental.MorphiaSession}.  Entities loaded or saved through the
+         * session are held by ID so that querying for the same ID again, or resolving a reference to it, returns the held instance
+         * without another round trip.  Deletes and updates through the session evict the affected entities and the cache is discarded
+         * when the session closes.  The default is false.
+         *
+         * @param sessionIdentityMap true to enable the identity map
+         * @return this
+         * @since 2.2
+         */
+        public Builder sessionIdentityMap(boolean sessionIdentityMap) {
+            this.sessionIdentityMap = sessionIdentityMap;
+            return this;
+        }
+
         /**
          * @param storeEmpties if true empty maps and collection types are stored in the database
          * @return this
@@ -423,6 +529,20 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Enables change tracking.  When enabled, a compact snapshot of each entity is kept as it is loaded and saving that entity later
+         * only sends {@code $set} and {@code $unset} operations for the top level fields which have changed rather than the whole entity.
+         * Entities without a snapshot are saved in full as usual.  The default is false.
+         *
+         * @param trackChanges true to track changes
+         * @return this
+         * @since 2.2
+         */
+        public Builder trackChanges(boolean trackChanges) {
+            this.trackChanges = trackChanges;
+            return this;
+        }
+
         /**
          * @param useLowerCaseCollectionNames if true, generated collections names are lower cased
          * @return this
@@ -446,5 +566,18 @@ public class MapperOptions {
             this.uuidRepresentation = uuidRepresentation;
             return this;
         }
+
+        /**
+         * Builds the codecs of entities, and those of their fields, as they are mapped rather than on first use.  The default is false.
+         *
+         * @param warmUpCodecs true to build codecs eagerly
+         * @return this
+         * @see Mapper#warmUp()
+         * @since 2.2
+         */
+        public Builder warmUpCodecs(boolean warmUpCodecs) {
+            this.warmUpCodecs = warmUpCodecs;
+            return this;
+        }
     }
 }
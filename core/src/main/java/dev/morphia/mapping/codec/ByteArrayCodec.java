@@ -0,0 +1,51 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.ByteCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Encodes {@code byte[]} values as BSON arrays of int32 values, as Morphia always has, rather than as BSON binary.  Each element is read
+ * and written directly.  Decoding goes through the shared {@code Byte} instances so it never allocates per element.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+class ByteArrayCodec implements Codec<byte[]> {
+    private static final ByteCodec ELEMENT_CODEC = new ByteCodec();
+
+    @Override
+    public void encode(BsonWriter writer, byte[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (byte element : value) {
+            writer.writeInt32(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public byte[] decode(BsonReader reader, DecoderContext decoderContext) {
+        byte[] values = new byte[16];
+        int size = 0;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ELEMENT_CODEC.decode(reader, decoderContext);
+        }
+        reader.readEndArray();
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<byte[]> getEncoderClass() {
+        return byte[].class;
+    }
+}
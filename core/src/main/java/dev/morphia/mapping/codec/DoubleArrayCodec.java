@@ -0,0 +1,54 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DoubleCodec;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Encodes {@code double[]} values as BSON arrays reading and writing each element directly rather than boxing it.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+class DoubleArrayCodec implements Codec<double[]> {
+    private static final DoubleCodec ELEMENT_CODEC = new DoubleCodec();
+
+    static double read(BsonReader reader, DecoderContext decoderContext) {
+        return reader.getCurrentBsonType() == BsonType.DOUBLE ? reader.readDouble() : ELEMENT_CODEC.decode(reader, decoderContext);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, double[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (double element : value) {
+            writer.writeDouble(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public double[] decode(BsonReader reader, DecoderContext decoderContext) {
+        double[] values = new double[16];
+        int size = 0;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = read(reader, decoderContext);
+        }
+        reader.readEndArray();
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<double[]> getEncoderClass() {
+        return double[].class;
+    }
+}
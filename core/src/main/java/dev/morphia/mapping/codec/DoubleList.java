@@ -0,0 +1,105 @@
+package dev.morphia.mapping.codec;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list of doubles backed by a {@code double[]} rather than by boxed values.  Morphia decodes {@code List<Double>} fields in to this type
+ * when {@link dev.morphia.mapping.MapperOptions.Builder#primitiveLists(boolean)} is enabled.  Null elements are not supported.
+ *
+ * @since 2.2
+ */
+public class DoubleList extends AbstractList<Double> implements RandomAccess {
+    private double[] values;
+    private int size;
+
+    /**
+     * Creates an empty list
+     */
+    public DoubleList() {
+        this(10);
+    }
+
+    /**
+     * Creates an empty list
+     *
+     * @param capacity the initial capacity
+     */
+    public DoubleList(int capacity) {
+        values = new double[capacity];
+    }
+
+    /**
+     * Appends a value to this list without boxing it
+     *
+     * @param value the value to add
+     */
+    public void addDouble(double value) {
+        grow(size + 1);
+        values[size++] = value;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, Double value) {
+        Objects.checkIndex(index, size + 1);
+        double unboxed = value;
+        grow(size + 1);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = unboxed;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    /**
+     * Reads a value from this list without boxing it
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    @Override
+    public Double remove(int index) {
+        double old = getDouble(index);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+        double old = getDouble(index);
+        values[index] = value;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of the values in this list
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void grow(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.List;
+
+/**
+ * Decodes {@code List<Double>} fields in to a {@link DoubleList}.  Any list of doubles can be encoded.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class DoubleListCodec implements Codec<List<Double>> {
+    @Override
+    public void encode(BsonWriter writer, List<Double> value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        if (value instanceof DoubleList) {
+            DoubleList list = (DoubleList) value;
+            for (int i = 0; i < list.size(); i++) {
+                writer.writeDouble(list.getDouble(i));
+            }
+        } else {
+            for (Double element : value) {
+                if (element == null) {
+                    writer.writeNull();
+                } else {
+                    writer.writeDouble(element);
+                }
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public List<Double> decode(BsonReader reader, DecoderContext decoderContext) {
+        DoubleList list = new DoubleList();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            list.addDouble(DoubleArrayCodec.read(reader, decoderContext));
+        }
+        reader.readEndArray();
+        return list;
+    }
+
+    @Override
+    public Class<List<Double>> getEncoderClass() {
+        return (Class) List.class;
+    }
+}
@@ -0,0 +1,54 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.IntegerCodec;
+
+import java.util.Arrays;
+
+/**
+ * Encodes {@code int[]} values as BSON arrays reading and writing each element directly rather than boxing it.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+class IntArrayCodec implements Codec<int[]> {
+    private static final IntegerCodec ELEMENT_CODEC = new IntegerCodec();
+
+    static int read(BsonReader reader, DecoderContext decoderContext) {
+        return reader.getCurrentBsonType() == BsonType.INT32 ? reader.readInt32() : ELEMENT_CODEC.decode(reader, decoderContext);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, int[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (int element : value) {
+            writer.writeInt32(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public int[] decode(BsonReader reader, DecoderContext decoderContext) {
+        int[] values = new int[16];
+        int size = 0;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = read(reader, decoderContext);
+        }
+        reader.readEndArray();
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<int[]> getEncoderClass() {
+        return int[].class;
+    }
+}
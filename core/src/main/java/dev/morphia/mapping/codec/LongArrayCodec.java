@@ -0,0 +1,54 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.LongCodec;
+
+import java.util.Arrays;
+
+/**
+ * Encodes {@code long[]} values as BSON arrays reading and writing each element directly rather than boxing it.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+class LongArrayCodec implements Codec<long[]> {
+    private static final LongCodec ELEMENT_CODEC = new LongCodec();
+
+    static long read(BsonReader reader, DecoderContext decoderContext) {
+        return reader.getCurrentBsonType() == BsonType.INT64 ? reader.readInt64() : ELEMENT_CODEC.decode(reader, decoderContext);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, long[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (long element : value) {
+            writer.writeInt64(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public long[] decode(BsonReader reader, DecoderContext decoderContext) {
+        long[] values = new long[16];
+        int size = 0;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = read(reader, decoderContext);
+        }
+        reader.readEndArray();
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<long[]> getEncoderClass() {
+        return long[].class;
+    }
+}
@@ -0,0 +1,105 @@
+package dev.morphia.mapping.codec;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list of longs backed by a {@code long[]} rather than by boxed values.  Morphia decodes {@code List<Long>} fields in to this type
+ * when {@link dev.morphia.mapping.MapperOptions.Builder#primitiveLists(boolean)} is enabled.  Null elements are not supported.
+ *
+ * @since 2.2
+ */
+public class LongList extends AbstractList<Long> implements RandomAccess {
+    private long[] values;
+    private int size;
+
+    /**
+     * Creates an empty list
+     */
+    public LongList() {
+        this(10);
+    }
+
+    /**
+     * Creates an empty list
+     *
+     * @param capacity the initial capacity
+     */
+    public LongList(int capacity) {
+        values = new long[capacity];
+    }
+
+    /**
+     * Appends a value to this list without boxing it
+     *
+     * @param value the value to add
+     */
+    public void addLong(long value) {
+        grow(size + 1);
+        values[size++] = value;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, Long value) {
+        Objects.checkIndex(index, size + 1);
+        long unboxed = value;
+        grow(size + 1);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = unboxed;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Reads a value from this list without boxing it
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    @Override
+    public Long remove(int index) {
+        long old = getLong(index);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public Long set(int index, Long value) {
+        long old = getLong(index);
+        values[index] = value;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of the values in this list
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void grow(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.List;
+
+/**
+ * Decodes {@code List<Long>} fields in to a {@link LongList}.  Any list of longs can be encoded.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class LongListCodec implements Codec<List<Long>> {
+    @Override
+    public void encode(BsonWriter writer, List<Long> value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        if (value instanceof LongList) {
+            LongList list = (LongList) value;
+            for (int i = 0; i < list.size(); i++) {
+                writer.writeInt64(list.getLong(i));
+            }
+        } else {
+            for (Long element : value) {
+                if (element == null) {
+                    writer.writeNull();
+                } else {
+                    writer.writeInt64(element);
+                }
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public List<Long> decode(BsonReader reader, DecoderContext decoderContext) {
+        LongList list = new LongList();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            list.addLong(LongArrayCodec.read(reader, decoderContext));
+        }
+        reader.readEndArray();
+        return list;
+    }
+
+    @Override
+    public Class<List<Long>> getEncoderClass() {
+        return (Class) List.class;
+    }
+}
@@ -0,0 +1,252 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.AbstractBsonWriter;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonContextType;
+import org.bson.BsonDateTime;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonJavaScript;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonSymbol;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.BsonValue;
+import org.bson.BsonWriterSettings;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+/**
+ * Writes directly to a {@link BsonDocument} so that filters, updates, and pipeline stages can be handed to the driver without first
+ * building an intermediate {@code Document} graph.  Like {@link DocumentWriter}, when a sub-document is written under a name that already
+ * holds a sub-document the two are merged rather than the first being replaced.  This lets multiple filters on the same field, e.g.,
+ * combine in to a single {@code { field: { $gt: 1, $lt: 5 } }} document.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class MergingBsonWriter extends AbstractBsonWriter {
+    private final BsonDocument document;
+
+    /**
+     * Creates a new writer
+     */
+    public MergingBsonWriter() {
+        this(new BsonDocument());
+    }
+
+    /**
+     * Creates a new writer writing in to the given document
+     *
+     * @param document the document to write to
+     */
+    public MergingBsonWriter(BsonDocument document) {
+        super(new BsonWriterSettings());
+        this.document = document;
+        setContext(new Context());
+    }
+
+    /**
+     * @return the document written
+     */
+    public BsonDocument getDocument() {
+        return document;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    protected void doWriteBinaryData(BsonBinary value) {
+        write(value);
+    }
+
+    @Override
+    protected void doWriteBoolean(boolean value) {
+        write(BsonBoolean.valueOf(value));
+    }
+
+    @Override
+    protected void doWriteDateTime(long value) {
+        write(new BsonDateTime(value));
+    }
+
+    @Override
+    protected void doWriteDBPointer(BsonDbPointer value) {
+        write(value);
+    }
+
+    @Override
+    protected void doWriteDouble(double value) {
+        write(new BsonDouble(value));
+    }
+
+    @Override
+    protected void doWriteEndArray() {
+        BsonValue array = getContext().container;
+        setContext(getContext().getParentContext());
+        write(array);
+    }
+
+    @Override
+    protected void doWriteEndDocument() {
+        BsonValue value = getContext().container;
+        setContext(getContext().getParentContext());
+        if (getContext().getContextType() == BsonContextType.JAVASCRIPT_WITH_SCOPE) {
+            BsonString code = (BsonString) getContext().container;
+            setContext(getContext().getParentContext());
+            write(new BsonJavaScriptWithScope(code.getValue(), (BsonDocument) value));
+        } else if (getContext().getContextType() != BsonContextType.TOP_LEVEL) {
+            write(value);
+        }
+    }
+
+    @Override
+    protected void doWriteInt32(int value) {
+        write(new BsonInt32(value));
+    }
+
+    @Override
+    protected void doWriteInt64(long value) {
+        write(new BsonInt64(value));
+    }
+
+    @Override
+    protected void doWriteDecimal128(Decimal128 value) {
+        write(new BsonDecimal128(value));
+    }
+
+    @Override
+    protected void doWriteJavaScript(String value) {
+        write(new BsonJavaScript(value));
+    }
+
+    @Override
+    protected void doWriteJavaScriptWithScope(String value) {
+        setContext(new Context(new BsonString(value), BsonContextType.JAVASCRIPT_WITH_SCOPE, getContext()));
+    }
+
+    @Override
+    protected void doWriteMaxKey() {
+        write(new BsonMaxKey());
+    }
+
+    @Override
+    protected void doWriteMinKey() {
+        write(new BsonMinKey());
+    }
+
+    @Override
+    protected void doWriteNull() {
+        write(BsonNull.VALUE);
+    }
+
+    @Override
+    protected void doWriteObjectId(ObjectId value) {
+        write(new BsonObjectId(value));
+    }
+
+    @Override
+    protected void doWriteRegularExpression(BsonRegularExpression value) {
+        write(value);
+    }
+
+    @Override
+    protected void doWriteStartArray() {
+        setContext(new Context(new BsonArray(), BsonContextType.ARRAY, getContext()));
+    }
+
+    @Override
+    protected void doWriteStartDocument() {
+        switch (getState()) {
+            case INITIAL:
+                setContext(new Context(document, BsonContextType.DOCUMENT, getContext()));
+                break;
+            case VALUE:
+                setContext(new Context(new BsonDocument(), BsonContextType.DOCUMENT, getContext()));
+                break;
+            case SCOPE_DOCUMENT:
+                setContext(new Context(new BsonDocument(), BsonContextType.SCOPE_DOCUMENT, getContext()));
+                break;
+            default:
+                throw new BsonInvalidOperationException("Unexpected state " + getState());
+        }
+    }
+
+    @Override
+    protected void doWriteString(String value) {
+        write(new BsonString(value));
+    }
+
+    @Override
+    protected void doWriteSymbol(String value) {
+        write(new BsonSymbol(value));
+    }
+
+    @Override
+    protected void doWriteTimestamp(BsonTimestamp value) {
+        write(value);
+    }
+
+    @Override
+    protected void doWriteUndefined() {
+        write(new BsonUndefined());
+    }
+
+    @Override
+    protected Context getContext() {
+        return (Context) super.getContext();
+    }
+
+    private void write(BsonValue value) {
+        getContext().add(value);
+    }
+
+    private class Context extends AbstractBsonWriter.Context {
+        private final BsonValue container;
+
+        Context(BsonValue container, BsonContextType contextType, Context parent) {
+            super(parent, contextType);
+            this.container = container;
+        }
+
+        Context() {
+            super(null, BsonContextType.TOP_LEVEL);
+            container = null;
+        }
+
+        @Override
+        public Context getParentContext() {
+            return (Context) super.getParentContext();
+        }
+
+        void add(BsonValue value) {
+            if (container instanceof BsonArray) {
+                ((BsonArray) container).add(value);
+            } else {
+                BsonDocument parent = (BsonDocument) container;
+                String name = getName();
+                BsonValue extant = parent.get(name);
+                if (value.isDocument() && extant != null && extant.isDocument()) {
+                    extant.asDocument().putAll(value.asDocument());
+                } else {
+                    parent.put(name, value);
+                }
+            }
+        }
+    }
+}
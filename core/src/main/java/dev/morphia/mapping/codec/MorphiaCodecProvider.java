@@ -2,18 +2,16 @@ package dev.morphia.mapping.codec;
 
 import dev.morphia.Datastore;
 import dev.morphia.mapping.Mapper;
-import dev.morphia.mapping.codec.pojo.EntityDecoder;
-import dev.morphia.mapping.codec.pojo.EntityModel;
-import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import org.bson.codecs.Codec;
 import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyCodecProvider;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provider for codecs for Morphia entities
@@ -21,7 +19,7 @@ import java.util.Map;
  * @morphia.internal
  */
 public class MorphiaCodecProvider implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private final Map<Class<?>, Codec<?>> codecs = new ConcurrentHashMap<>();
     private final Mapper mapper;
     private final List<PropertyCodecProvider> propertyCodecProviders;
     private final Datastore datastore;
@@ -36,8 +34,13 @@ public class MorphiaCodecProvider implements CodecProvider {
         this.datastore = datastore;
         this.mapper = mapper;
 
-        propertyCodecProviders = List.of(new MorphiaMapPropertyCodecProvider(),
-            new MorphiaCollectionPropertyCodecProvider());
+        List<PropertyCodecProvider> providers = new ArrayList<>();
+        if (mapper.getOptions().isPrimitiveLists()) {
+            providers.add(new PrimitiveListPropertyCodecProvider());
+        }
+        providers.add(new MorphiaMapPropertyCodecProvider());
+        providers.add(new MorphiaCollectionPropertyCodecProvider());
+        propertyCodecProviders = List.copyOf(providers);
     }
 
     @Override
@@ -45,45 +48,15 @@ public class MorphiaCodecProvider implements CodecProvider {
     public <T> MorphiaCodec get(Class<T> type, CodecRegistry registry) {
         MorphiaCodec codec = (MorphiaCodec) codecs.get(type);
         if (codec == null && mapper.isMappable(type)) {
+            // building a codec can look up the codecs of its fields so computeIfAbsent() can't be used here
             codec = new MorphiaCodec(datastore, mapper.getEntityModel(type), propertyCodecProviders,
                 mapper.getDiscriminatorLookup(), registry);
-            codecs.put(type, codec);
+            MorphiaCodec existing = (MorphiaCodec) codecs.putIfAbsent(type, codec);
+            if (existing != null) {
+                codec = existing;
+            }
         }
 
         return codec;
     }
-
-    /**
-     * Creates a codec that uses an existing entity for loading rather than creating a new instance.
-     *
-     * @param entity   the entity to refresh
-     * @param registry the codec registry
-     * @param <T>      the entity type
-     * @return the new codec
-     */
-    public <T> Codec<T> getRefreshCodec(T entity, CodecRegistry registry) {
-        EntityModel model = mapper.getEntityModel(entity.getClass());
-        return new MorphiaCodec<>(datastore, model, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry) {
-            @Override
-            protected EntityDecoder getDecoder() {
-                return new EntityDecoder(this) {
-                    @Override
-                    protected MorphiaInstanceCreator getInstanceCreator(EntityModel classModel) {
-                        return new MorphiaInstanceCreator() {
-                            @Override
-                            public T getInstance() {
-                                return entity;
-                            }
-
-                            @Override
-                            public void set(Object value, FieldModel model) {
-                                model.getAccessor().set(getInstance(), value);
-                            }
-                        };
-                    }
-                };
-            }
-        };
-    }
-
 }
@@ -38,15 +38,20 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
         addCodec(new ShapeCodec());
         addCodec(new LegacyQueryCodec(mapper));
         addCodec(new MorphiaQueryCodec(mapper));
+        addCodec(new ParameterCodec());
         addCodec(new URICodec());
+        addCodec(new ByteArrayCodec());
+        addCodec(new DoubleArrayCodec());
+        addCodec(new IntArrayCodec());
+        addCodec(new LongArrayCodec());
 
         List.of(boolean.class, Boolean.class,
-            byte.class, Byte.class,
+            Byte.class,
             char.class, Character.class,
-            double.class, Double.class,
+            Double.class,
             float.class, Float.class,
-            int.class, Integer.class,
-            long.class, Long.class,
+            Integer.class,
+            Long.class,
             short.class, Short.class).forEach(c -> addCodec(new TypedArrayCodec(c, mapper)));
     }
 
@@ -0,0 +1,35 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.query.Parameter;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Defines a codec for prepared query parameters.  Parameters are written as a marker document naming the parameter so that the value can
+ * be bound later.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ParameterCodec implements Codec<Parameter> {
+    @Override
+    public Parameter decode(BsonReader reader, DecoderContext decoderContext) {
+        throw new UnsupportedOperationException(Sofia.encodingOnly());
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Parameter value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeString(Parameter.KEY, value.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Parameter> getEncoderClass() {
+        return Parameter.class;
+    }
+}
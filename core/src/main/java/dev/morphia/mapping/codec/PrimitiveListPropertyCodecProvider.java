@@ -0,0 +1,31 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.pojo.PropertyCodecRegistry;
+import org.bson.codecs.pojo.TypeWithTypeParameters;
+
+import java.util.Collection;
+
+/**
+ * Provides codecs which decode {@code List<Long>} and {@code List<Double>} fields in to lists backed by primitive arrays.
+ *
+ * @morphia.internal
+ * @see dev.morphia.mapping.MapperOptions.Builder#primitiveLists(boolean)
+ * @since 2.2
+ */
+@SuppressWarnings("unchecked")
+class PrimitiveListPropertyCodecProvider extends MorphiaPropertyCodecProvider {
+    @Override
+    public <T> Codec<T> get(TypeWithTypeParameters<T> type, PropertyCodecRegistry registry) {
+        Class<T> fieldType = type.getType();
+        if (Collection.class.isAssignableFrom(fieldType) && type.getTypeParameters().size() == 1) {
+            Class<?> valueType = type.getTypeParameters().get(0).getType();
+            if (valueType.equals(Long.class) && fieldType.isAssignableFrom(LongList.class)) {
+                return (Codec<T>) new LongListCodec();
+            } else if (valueType.equals(Double.class) && fieldType.isAssignableFrom(DoubleList.class)) {
+                return (Codec<T>) new DoubleListCodec();
+            }
+        }
+        return null;
+    }
+}
@@ -8,6 +8,7 @@ import org.bson.Document;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -18,12 +19,14 @@ public class ClassMethodPair {
     private final Method method;
     private final Datastore datastore;
     private final Class<? extends Annotation> event;
+    private final boolean usesDocument;
 
     ClassMethodPair(Datastore datastore, Method method, Class<?> type, Class<? extends Annotation> event) {
         this.event = event;
         this.type = type;
         this.method = method;
         this.datastore = datastore;
+        usesDocument = Arrays.asList(method.getParameterTypes()).contains(Document.class);
     }
 
     void invoke(Document document, Object entity) {
@@ -73,4 +76,8 @@ public class ClassMethodPair {
         return method;
     }
 
+    boolean usesDocument() {
+        return usesDocument;
+    }
+
 }
@@ -2,16 +2,21 @@ package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PreLoad;
+import dev.morphia.internal.ChangeTracker;
 import dev.morphia.mapping.DiscriminatorLookup;
+import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
 import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
 
@@ -22,6 +27,8 @@ import static dev.morphia.mapping.codec.Conversions.convert;
  * @since 2.0
  */
 public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+
     private final MorphiaCodec<?> morphiaCodec;
 
     protected EntityDecoder(MorphiaCodec<?> morphiaCodec) {
@@ -30,21 +37,47 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
 
     @Override
     public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        ChangeTracker tracker = morphiaCodec.getMapper().getChangeTracker();
+        if (tracker != null && !decoderContext.hasCheckedDiscriminator() && isTracked(morphiaCodec.getEntityModel())) {
+            RawBsonDocument raw = RAW_CODEC.decode(reader, decoderContext);
+            Object entity = decodeEntity(new BsonBinaryReader(raw.getByteBuffer().asNIO()), decoderContext);
+            tracker.record(entity, raw);
+            return entity;
+        }
+        return decodeEntity(reader, decoderContext);
+    }
+
+    void decode(BsonReader reader, DecoderContext decoderContext, Object entity) {
+        MorphiaInstanceCreator instanceCreator = new MorphiaInstanceCreator() {
+            @Override
+            public Object getInstance() {
+                return entity;
+            }
+
+            @Override
+            public void set(Object value, FieldModel model) {
+                model.getAccessor().set(entity, value);
+            }
+        };
+        if (hasLifecycle()) {
+            decodeWithLifecycle(reader, decoderContext, instanceCreator);
+        } else {
+            decodeProperties(reader, decoderContext, instanceCreator);
+        }
+    }
+
+    private Object decodeEntity(BsonReader reader, DecoderContext decoderContext) {
         Object entity;
-        if (morphiaCodec.getEntityModel().hasLifecycle(PreLoad.class)
-            || morphiaCodec.getEntityModel().hasLifecycle(PostLoad.class)
-            || morphiaCodec.getMapper().hasInterceptors()) {
-            entity = decodeWithLifecycle(reader, decoderContext);
+        if (hasLifecycle()) {
+            entity = decodeWithLifecycle(reader, decoderContext, getInstanceCreator(morphiaCodec.getEntityModel()));
         } else {
             EntityModel classModel = morphiaCodec.getEntityModel();
-            if (decoderContext.hasCheckedDiscriminator()) {
+            if (decoderContext.hasCheckedDiscriminator() || !classModel.useDiscriminator()) {
                 MorphiaInstanceCreator instanceCreator = getInstanceCreator(classModel);
                 decodeProperties(reader, decoderContext, instanceCreator);
                 return instanceCreator.getInstance();
             } else {
-                entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
-                    morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                             .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+                entity = decodePolymorphic(reader, decoderContext);
             }
         }
 
@@ -78,6 +111,10 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
     protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
                                     MorphiaInstanceCreator instanceCreator) {
         reader.readStartDocument();
+        decodeRemainingProperties(reader, decoderContext, instanceCreator);
+    }
+
+    private void decodeRemainingProperties(BsonReader reader, DecoderContext decoderContext, MorphiaInstanceCreator instanceCreator) {
         EntityModel classModel = morphiaCodec.getEntityModel();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String name = reader.readName();
@@ -120,18 +157,100 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
         return classModel.getInstanceCreator();
     }
 
-    private Object decodeWithLifecycle(BsonReader reader, DecoderContext decoderContext) {
-        final Object entity;
-        final MorphiaInstanceCreator instanceCreator = getInstanceCreator(morphiaCodec.getEntityModel());
-        entity = instanceCreator.getInstance();
+    /**
+     * Morphia writes the discriminator right after the ID so it is looked for in the first two fields.  When found there, the codec for
+     * that type picks up decoding where this left off so the document is only read once.  Otherwise the document is rewound and
+     * scanned in full.
+     */
+    private Object decodePolymorphic(BsonReader reader, DecoderContext decoderContext) {
+        EntityModel model = morphiaCodec.getEntityModel();
+        FieldModel idField = model.getIdField();
+        BsonReaderMark mark = reader.getMark();
+        MorphiaCodec<?> codec = null;
+        Object id = null;
+        try {
+            reader.readStartDocument();
+            for (int i = 0; i < 2 && reader.readBsonType() != BsonType.END_OF_DOCUMENT; i++) {
+                String name = reader.readName();
+                if (name.equals(model.getDiscriminatorKey())) {
+                    Codec<?> found = morphiaCodec.getSubtypeCodec(reader.readString());
+                    codec = found instanceof MorphiaCodec ? (MorphiaCodec<?>) found : null;
+                    break;
+                } else if (i == 0 && idField != null && name.equals(idField.getMappedName())
+                           && reader.getCurrentBsonType() != BsonType.NULL) {
+                    id = decoderContext.decodeWithChildContext(idField.getCachedCodec(), reader);
+                } else {
+                    break;
+                }
+            }
+        } catch (BsonInvalidOperationException | CodecConfigurationException e) {
+            codec = null;
+        }
+
+        if (codec != null && codec.getDecoder().canResume(id)) {
+            return codec.getDecoder().resume(reader, decoderContext, id);
+        }
+        mark.reset();
+        return getCodecFromDocument(reader, model.useDiscriminator(), model.getDiscriminatorKey(),
+            morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
+                   .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+    }
+
+    private boolean canResume(Object id) {
+        return !hasLifecycle() && (id == null || morphiaCodec.getEntityModel().getIdField() != null);
+    }
+
+    private Object resume(BsonReader reader, DecoderContext decoderContext, Object id) {
+        EntityModel model = morphiaCodec.getEntityModel();
+        MorphiaInstanceCreator instanceCreator = getInstanceCreator(model);
+        if (id != null) {
+            instanceCreator.set(id, model.getIdField());
+        }
+        decodeRemainingProperties(reader, decoderContext, instanceCreator);
+        return instanceCreator.getInstance();
+    }
+
+    private boolean hasLifecycle() {
+        return morphiaCodec.getEntityModel().hasLifecycle(PreLoad.class)
+               || morphiaCodec.getEntityModel().hasLifecycle(PostLoad.class)
+               || morphiaCodec.getMapper().hasInterceptors(PreLoad.class)
+               || morphiaCodec.getMapper().hasInterceptors(PostLoad.class);
+    }
+
+    private Object decodeWithLifecycle(BsonReader reader, DecoderContext decoderContext, MorphiaInstanceCreator instanceCreator) {
+        final EntityModel model = morphiaCodec.getEntityModel();
+        final Mapper mapper = morphiaCodec.getMapper();
+        final Object entity = instanceCreator.getInstance();
 
-        Document document = morphiaCodec.getRegistry().get(Document.class).decode(reader, decoderContext);
-        morphiaCodec.getEntityModel().callLifecycleMethods(PreLoad.class, entity, document, morphiaCodec.getMapper());
+        if (!usesDocument(model, mapper)) {
+            model.callLifecycleMethods(PreLoad.class, entity, null, mapper);
+            decodeProperties(reader, decoderContext, instanceCreator);
+            model.callLifecycleMethods(PostLoad.class, entity, null, mapper);
+        } else {
+            LazyDocument document = new LazyDocument(RAW_CODEC.decode(reader, decoderContext),
+                morphiaCodec.getRegistry().get(Document.class));
+            model.callLifecycleMethods(PreLoad.class, entity, document, mapper);
 
-        decodeProperties(new DocumentReader(document), decoderContext, instanceCreator);
+            if (document.isMaterialized()) {
+                decodeProperties(new DocumentReader(document), decoderContext, instanceCreator);
+            } else {
+                decodeProperties(new BsonBinaryReader(document.getRaw().getByteBuffer().asNIO()), decoderContext, instanceCreator);
+            }
 
-        morphiaCodec.getEntityModel().callLifecycleMethods(PostLoad.class, entity, document, morphiaCodec.getMapper());
+            model.callLifecycleMethods(PostLoad.class, entity, document, mapper);
+        }
         return entity;
     }
 
+    private boolean isTracked(EntityModel model) {
+        return model.getEntityAnnotation() != null && model.getIdField() != null;
+    }
+
+    private boolean usesDocument(EntityModel model, Mapper mapper) {
+        return model.hasDocumentLifecycle(PreLoad.class)
+               || model.hasDocumentLifecycle(PostLoad.class)
+               || mapper.hasInterceptors(PreLoad.class)
+               || mapper.hasInterceptors(PostLoad.class);
+    }
+
 }
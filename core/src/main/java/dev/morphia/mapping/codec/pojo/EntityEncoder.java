@@ -2,6 +2,7 @@ package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PrePersist;
+import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -33,7 +34,8 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
         EntityModel model = morphiaCodec.getEntityModel();
         if (model.hasLifecycle(PostPersist.class)
             || model.hasLifecycle(PrePersist.class)
-            || morphiaCodec.getMapper().hasInterceptors()) {
+            || morphiaCodec.getMapper().hasInterceptors(PrePersist.class)
+            || morphiaCodec.getMapper().hasInterceptors(PostPersist.class)) {
 
             encodeWithLifecycle(writer, value, encoderContext);
         } else {
@@ -54,21 +56,16 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
 
     @SuppressWarnings("unchecked")
     private void encodeEntity(BsonWriter writer, Object value, EncoderContext encoderContext) {
-        if (areEquivalentTypes(value.getClass(), morphiaCodec.getEntityModel().getType())) {
+        EntityModel model = morphiaCodec.getEntityModel();
+        if (areEquivalentTypes(value.getClass(), model.getType())) {
             document(writer, () -> {
+                encodeIdProperty(writer, value, encoderContext, model.getIdField());
 
-                FieldModel idModel = morphiaCodec.getEntityModel().getIdField();
-                encodeIdProperty(writer, value, encoderContext, idModel);
-
-                if (morphiaCodec.getEntityModel().useDiscriminator()) {
-                    writer.writeString(morphiaCodec.getEntityModel().getDiscriminatorKey(),
-                        morphiaCodec.getEntityModel().getDiscriminator());
+                if (model.useDiscriminator()) {
+                    writer.writeString(model.getDiscriminatorKey(), model.getDiscriminator());
                 }
 
-                for (FieldModel fieldModel : morphiaCodec.getEntityModel().getFields()) {
-                    if (fieldModel.equals(idModel)) {
-                        continue;
-                    }
+                for (FieldModel fieldModel : model.getEncodedFields()) {
                     encodeProperty(writer, value, encoderContext, fieldModel);
                 }
             });
@@ -117,13 +114,25 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     }
 
     private void encodeWithLifecycle(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        EntityModel model = morphiaCodec.getEntityModel();
+        Mapper mapper = morphiaCodec.getMapper();
+        if (!model.hasDocumentLifecycle(PrePersist.class)
+            && !model.hasDocumentLifecycle(PostPersist.class)
+            && !mapper.hasInterceptors(PrePersist.class)
+            && !mapper.hasInterceptors(PostPersist.class)) {
+            model.callLifecycleMethods(PrePersist.class, value, null, mapper);
+            encodeEntity(writer, value, encoderContext);
+            model.callLifecycleMethods(PostPersist.class, value, null, mapper);
+            return;
+        }
+
         Document document = new Document();
-        morphiaCodec.getEntityModel().callLifecycleMethods(PrePersist.class, value, document, morphiaCodec.getMapper());
+        model.callLifecycleMethods(PrePersist.class, value, document, mapper);
 
         final DocumentWriter documentWriter = new DocumentWriter(document);
         encodeEntity(documentWriter, value, encoderContext);
         document = documentWriter.getDocument();
-        morphiaCodec.getEntityModel().callLifecycleMethods(PostPersist.class, value, document, morphiaCodec.getMapper());
+        model.callLifecycleMethods(PostPersist.class, value, document, mapper);
 
         morphiaCodec.getRegistry().get(Document.class).encode(writer, document, encoderContext);
     }
@@ -49,6 +49,8 @@ public class EntityModel {
     private final Map<Class<? extends Annotation>, Annotation> annotations;
     private final Map<String, FieldModel> fieldModelsByField;
     private final Map<String, FieldModel> fieldModelsByMappedName;
+    private final Map<String, FieldModel> fieldModelsByAnyName;
+    private final FieldModel[] encodedFields;
     private final Datastore datastore;
     private final InstanceCreatorFactory creatorFactory;
     private final boolean discriminatorEnabled;
@@ -106,6 +108,12 @@ public class EntityModel {
 
         idField = getFields(Id.class).stream().findFirst().orElse(null);
         versionField = getFields(Version.class).stream().findFirst().orElse(null);
+
+        fieldModelsByAnyName = new HashMap<>(fieldModelsByField);
+        fieldModelsByAnyName.putAll(fieldModelsByMappedName);
+        encodedFields = fieldModelsByField.values().stream()
+                                          .filter(model -> model != idField)
+                                          .toArray(FieldModel[]::new);
     }
 
     /**
@@ -195,7 +203,7 @@ public class EntityModel {
      * @return the named FieldModel or null if it does not exist
      */
     public FieldModel getField(String name) {
-        return fieldModelsByMappedName.getOrDefault(name, fieldModelsByField.get(name));
+        return fieldModelsByAnyName.get(name);
     }
 
     /**
@@ -207,6 +215,13 @@ public class EntityModel {
         return new ArrayList<>(fieldModelsByField.values());
     }
 
+    /**
+     * @return the fields to write after the ID, in declaration order.  The array is shared and must not be modified.
+     */
+    FieldModel[] getEncodedFields() {
+        return encodedFields;
+    }
+
     /**
      * Returns all the fields on this model annotated by the given type
      *
@@ -309,6 +324,16 @@ public class EntityModel {
         return getLifecycleMethods().containsKey(type);
     }
 
+    /**
+     * @param type the lifecycle event type
+     * @return true if any lifecycle method configured for that event takes the {@code Document} as a parameter
+     * @since 2.2
+     */
+    public boolean hasDocumentLifecycle(Class<? extends Annotation> type) {
+        final List<ClassMethodPair> methodPairs = getLifecycleMethods().get(type);
+        return methodPairs != null && methodPairs.stream().anyMatch(ClassMethodPair::usesDocument);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getAnnotations(), fieldModelsByField, fieldModelsByMappedName, datastore, creatorFactory, discriminatorEnabled,
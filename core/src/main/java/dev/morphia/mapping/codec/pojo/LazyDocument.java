@@ -0,0 +1,192 @@
+package dev.morphia.mapping.codec.pojo;
+
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@code Document} view over the raw bytes of an entity handed to lifecycle callbacks.  The contents are only decoded the first time
+ * the view is actually read or modified so callbacks which never look at the document do not pay for a second decode of the entity.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+class LazyDocument extends Document {
+    private static final long serialVersionUID = 1L;
+
+    private final transient RawBsonDocument raw;
+    private final transient Decoder<Document> decoder;
+    private boolean materialized;
+
+    LazyDocument(RawBsonDocument raw, Decoder<Document> decoder) {
+        this.raw = raw;
+        this.decoder = decoder;
+    }
+
+    /**
+     * @return the raw form of the document as read from the database
+     */
+    RawBsonDocument getRaw() {
+        return raw;
+    }
+
+    /**
+     * @return true if the document has been decoded and so may have been modified
+     */
+    boolean isMaterialized() {
+        return materialized;
+    }
+
+    @Override
+    public Document append(String key, Object value) {
+        materialize();
+        return super.append(key, value);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> clazz) {
+        materialize();
+        return super.get(key, clazz);
+    }
+
+    @Override
+    public <T> T get(Object key, T defaultValue) {
+        materialize();
+        return super.get(key, defaultValue);
+    }
+
+    @Override
+    public <T> T getEmbedded(List<?> keys, Class<T> clazz) {
+        materialize();
+        return super.getEmbedded(keys, clazz);
+    }
+
+    @Override
+    public <T> T getEmbedded(List<?> keys, T defaultValue) {
+        materialize();
+        return super.getEmbedded(keys, defaultValue);
+    }
+
+    @Override
+    public <T> List<T> getList(Object key, Class<T> clazz) {
+        materialize();
+        return super.getList(key, clazz);
+    }
+
+    @Override
+    public <T> List<T> getList(Object key, Class<T> clazz, List<T> defaultValue) {
+        materialize();
+        return super.getList(key, clazz, defaultValue);
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        materialize();
+        return super.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materialize();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        materialize();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        materialize();
+        return super.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        materialize();
+        return super.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        materialize();
+        super.putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        materialize();
+        super.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        materialize();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        materialize();
+        if (o instanceof LazyDocument) {
+            ((LazyDocument) o).materialize();
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        materialize();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        materialize();
+        return super.toString();
+    }
+
+    private void materialize() {
+        if (!materialized) {
+            materialized = true;
+            super.putAll(decoder.decode(new BsonBinaryReader(raw.getByteBuffer().asNIO()), DecoderContext.builder().build()));
+        }
+    }
+
+    private Object writeReplace() {
+        return new Document(this);
+    }
+}
@@ -17,6 +17,8 @@ import org.bson.codecs.pojo.PropertyCodecRegistry;
 import org.bson.types.ObjectId;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static dev.morphia.mapping.codec.Conversions.convert;
 import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
@@ -38,6 +40,8 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
     private final EntityEncoder encoder = new EntityEncoder(this);
+    private final EntityDecoder decoder = new EntityDecoder(this);
+    private final Map<String, Codec<?>> subtypeCodecs = new ConcurrentHashMap<>();
 
     /**
      * Creates a new codec
@@ -66,6 +70,20 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return (T) getDecoder().decode(reader, decoderContext);
     }
 
+    /**
+     * Decodes a document in to an existing entity rather than a new instance.  Fields missing from the document are left as they are.
+     *
+     * @param reader         the reader to decode from
+     * @param decoderContext the decoder context
+     * @param entity         the entity to update
+     * @return the updated entity
+     * @since 2.2
+     */
+    public T decode(BsonReader reader, DecoderContext decoderContext, T entity) {
+        getDecoder().decode(reader, decoderContext, entity);
+        return entity;
+    }
+
     @Override
     public boolean documentHasId(Object entity) {
         return entityModel.getIdField().getValue(entity) != null;
@@ -79,7 +97,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     }
 
     protected EntityDecoder getDecoder() {
-        return new EntityDecoder(this);
+        return decoder;
     }
 
     @Override
@@ -140,4 +158,13 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return registry;
     }
 
+    Codec<?> getSubtypeCodec(String discriminator) {
+        Codec<?> codec = subtypeCodecs.get(discriminator);
+        if (codec == null) {
+            codec = registry.get(discriminatorLookup.lookup(discriminator));
+            subtypeCodecs.putIfAbsent(discriminator, codec);
+        }
+        return codec;
+    }
+
 }
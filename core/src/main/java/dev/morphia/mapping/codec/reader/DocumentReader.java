@@ -2,10 +2,10 @@ package dev.morphia.mapping.codec.reader;
 
 import dev.morphia.mapping.codec.BsonTypeMap;
 import dev.morphia.mapping.codec.Conversions;
-import dev.morphia.mapping.codec.reader.ReaderState.InitialReaderState;
 import dev.morphia.sofia.Sofia;
 import org.bson.BsonBinary;
 import org.bson.BsonDbPointer;
+import org.bson.BsonInvalidOperationException;
 import org.bson.BsonJavaScript;
 import org.bson.BsonJavaScriptWithScope;
 import org.bson.BsonReader;
@@ -18,16 +18,23 @@ import org.bson.Document;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
 
 import static java.lang.String.format;
 
 /**
+ * Reads a {@link Document} as if it were BSON.  Entries are walked lazily as they are read using one context per open document or
+ * array so reading allocates little beyond what the document already holds.
+ *
  * @morphia.internal
  */
 public class DocumentReader implements BsonReader {
     private static final BsonTypeMap TYPE_MAP = new BsonTypeMap();
-    private ReaderState readerState;
+    private Context context;
+    private BsonType currentType = BsonType.DOCUMENT;
 
     /**
      * Construct a new instance.
@@ -35,32 +42,32 @@ public class DocumentReader implements BsonReader {
      * @param document the document to read from
      */
     public DocumentReader(Document document) {
-        readerState = new InitialReaderState(this, new DocumentIterator(this, document.entrySet().iterator()));
+        context = new Context(null, Collections.singletonList(document));
     }
 
     @Override
     public BsonType getCurrentBsonType() {
-        return stage().getCurrentBsonType();
+        return currentType;
     }
 
     @Override
     public String getCurrentName() {
-        return stage().name();
+        return context.isDocument() && peek() ? context.name : null;
     }
 
     @Override
     public BsonBinary readBinaryData() {
-        return stage().value();
+        return consume();
     }
 
     @Override
     public byte peekBinarySubType() {
-        return stage().<BsonBinary>value().getType();
+        return this.<BsonBinary>current().getType();
     }
 
     @Override
     public int peekBinarySize() {
-        return stage().<BsonBinary>value().getData().length;
+        return this.<BsonBinary>current().getData().length;
     }
 
     @Override
@@ -71,7 +78,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public boolean readBoolean() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -82,12 +89,13 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public BsonType readBsonType() {
-        return stage().getCurrentBsonType();
+        peek();
+        return currentType;
     }
 
     @Override
     public long readDateTime() {
-        return Conversions.convert(stage().value(), long.class);
+        return Conversions.convert(consume(), long.class);
     }
 
     @Override
@@ -98,7 +106,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public double readDouble() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -109,17 +117,29 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public void readEndArray() {
-        stage().endArray();
+        if (context.isDocument() || context.parent == null) {
+            throw new BsonInvalidOperationException(Sofia.invalidBsonOperation(List.class, currentType));
+        }
+        if (peek()) {
+            throw new BsonInvalidOperationException(Sofia.notArrayEnd());
+        }
+        context = context.parent;
     }
 
     @Override
     public void readEndDocument() {
-        stage().endDocument();
+        if (!context.isDocument()) {
+            throw new BsonInvalidOperationException(Sofia.invalidBsonOperation(Document.class, currentType));
+        }
+        if (peek()) {
+            throw new BsonInvalidOperationException(Sofia.notDocumentEnd());
+        }
+        context = context.parent;
     }
 
     @Override
     public int readInt32() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -130,7 +150,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public long readInt64() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -141,7 +161,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public Decimal128 readDecimal128() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -152,7 +172,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public String readJavaScript() {
-        return stage().<BsonJavaScript>value().getCode();
+        return this.<BsonJavaScript>consume().getCode();
     }
 
     @Override
@@ -163,7 +183,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public String readJavaScriptWithScope() {
-        return stage().<BsonJavaScriptWithScope>value().getCode();
+        return this.<BsonJavaScriptWithScope>consume().getCode();
     }
 
     @Override
@@ -174,6 +194,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public void readMaxKey() {
+        consume();
     }
 
     @Override
@@ -184,6 +205,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public void readMinKey() {
+        consume();
     }
 
     @Override
@@ -194,7 +216,11 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public String readName() {
-        return stage().name();
+        if (!context.isDocument()) {
+            throw new BsonInvalidOperationException(Sofia.cannotReadName());
+        }
+        current();
+        return context.name;
     }
 
     @Override
@@ -204,6 +230,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public void readNull() {
+        consume();
     }
 
     @Override
@@ -214,7 +241,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public ObjectId readObjectId() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -225,7 +252,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public BsonRegularExpression readRegularExpression() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -236,7 +263,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public BsonDbPointer readDBPointer() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -247,17 +274,29 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public void readStartArray() {
-        stage().startArray();
+        Object value = peek() ? context.value : null;
+        if (!(value instanceof List)) {
+            throw new BsonInvalidOperationException(Sofia.invalidBsonOperation(List.class, currentType));
+        }
+        context.pending = false;
+        context = new Context(context, value);
+        currentType = BsonType.ARRAY;
     }
 
     @Override
     public void readStartDocument() {
-        stage().startDocument();
+        Object value = peek() ? context.value : null;
+        if (!(value instanceof Document)) {
+            throw new BsonInvalidOperationException(Sofia.invalidBsonOperation(Document.class, currentType));
+        }
+        context.pending = false;
+        context = new Context(context, value);
+        currentType = BsonType.DOCUMENT;
     }
 
     @Override
     public String readString() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -268,7 +307,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public String readSymbol() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -279,7 +318,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public BsonTimestamp readTimestamp() {
-        return stage().value();
+        return consume();
     }
 
     @Override
@@ -290,6 +329,7 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public void readUndefined() {
+        consume();
     }
 
     @Override
@@ -304,12 +344,12 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public void skipValue() {
-        stage().advance();
+        consume();
     }
 
     @Override
     public BsonReaderMark getMark() {
-        return new Mark(this, stage());
+        return new Mark(this, context, currentType);
     }
 
     @Override
@@ -325,23 +365,44 @@ public class DocumentReader implements BsonReader {
         }
     }
 
-    ReaderState stage() {
-        return this.readerState;
+    void reset(Context context, int[] states, BsonType currentType) {
+        int level = 0;
+        for (Context current = context; current != null; current = current.parent) {
+            current.restore(states[level++]);
+        }
+        this.context = context;
+        this.currentType = currentType;
     }
 
-    ReaderState nextStage(ReaderState nextReaderState) {
-        readerState = nextReaderState;
-        return readerState;
+    private <T> T consume() {
+        T value = current();
+        context.pending = false;
+        return value;
     }
 
-    void reset(ReaderState bookmark) {
-        readerState = bookmark;
+    @SuppressWarnings("unchecked")
+    private <T> T current() {
+        if (!peek()) {
+            throw new BsonInvalidOperationException(Sofia.documentStreamExceeded());
+        }
+        return (T) context.value;
+    }
+
+    private boolean peek() {
+        boolean found = context.next();
+        currentType = found ? getBsonType(context.value) : BsonType.END_OF_DOCUMENT;
+        return found;
     }
 
     BsonType getBsonType(Object o) {
+        if (o == null) {
+            return BsonType.NULL;
+        }
         BsonType bsonType = TYPE_MAP.get(o.getClass());
         if (bsonType == null) {
-            if (o instanceof List) {
+            if (o instanceof Document) {
+                bsonType = BsonType.DOCUMENT;
+            } else if (o instanceof List) {
                 bsonType = BsonType.ARRAY;
             } else {
                 throw new IllegalStateException(Sofia.unknownBsonType(o.getClass()));
@@ -350,4 +411,71 @@ public class DocumentReader implements BsonReader {
         return bsonType;
     }
 
+    /**
+     * The position within an open document or array.  The element most recently pulled from the iterator is held until it is read so
+     * it can be inspected more than once.
+     */
+    static final class Context {
+        private final Context parent;
+        private final Object container;
+        private Iterator<?> iterator;
+        private int position;
+        private boolean pending;
+        private String name;
+        private Object value;
+
+        private Context(Context parent, Object container) {
+            this.parent = parent;
+            this.container = container;
+            iterator = iterator();
+        }
+
+        Context getParent() {
+            return parent;
+        }
+
+        int state() {
+            return position << 1 | (pending ? 1 : 0);
+        }
+
+        private boolean isDocument() {
+            return container instanceof Document;
+        }
+
+        private Iterator<?> iterator() {
+            return isDocument() ? ((Document) container).entrySet().iterator() : ((List<?>) container).iterator();
+        }
+
+        private boolean next() {
+            if (!pending && iterator.hasNext()) {
+                pull();
+                pending = true;
+            }
+            return pending;
+        }
+
+        private void pull() {
+            Object next = iterator.next();
+            if (isDocument()) {
+                Entry<?, ?> entry = (Entry<?, ?>) next;
+                name = (String) entry.getKey();
+                value = entry.getValue();
+            } else {
+                value = next;
+            }
+            position++;
+        }
+
+        private void restore(int state) {
+            int target = state >>> 1;
+            if (target != position) {
+                iterator = iterator();
+                position = 0;
+                while (position < target) {
+                    pull();
+                }
+            }
+            pending = (state & 1) == 1;
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package dev.morphia.mapping.codec.reader;
 
+import dev.morphia.mapping.codec.reader.DocumentReader.Context;
 import org.bson.BsonReaderMark;
+import org.bson.BsonType;
 
 /**
  * A bookmark for processing Documents
@@ -8,17 +10,29 @@ import org.bson.BsonReaderMark;
  */
 public class Mark implements BsonReaderMark {
     private final DocumentReader reader;
-    private final ReaderState readerState;
+    private final Context context;
+    private final BsonType currentType;
+    private final int[] states;
 
-    Mark(DocumentReader reader, ReaderState readerState) {
+    Mark(DocumentReader reader, Context context, BsonType currentType) {
         this.reader = reader;
-        this.readerState = readerState;
+        this.context = context;
+        this.currentType = currentType;
+        int depth = 0;
+        for (Context current = context; current != null; current = current.getParent()) {
+            depth++;
+        }
+        states = new int[depth];
+        int level = 0;
+        for (Context current = context; current != null; current = current.getParent()) {
+            states[level++] = current.state();
+        }
     }
 
     /**
      * Resets the reader to place indicated by this Mark
      */
     public void reset() {
-        reader.reset(readerState);
+        reader.reset(context, states, currentType);
     }
 }
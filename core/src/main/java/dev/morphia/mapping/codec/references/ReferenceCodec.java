@@ -22,7 +22,7 @@ import dev.morphia.mapping.experimental.SingleReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.dynamic.DynamicType.Loaded;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
@@ -35,7 +35,9 @@ import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -51,8 +53,11 @@ import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.docum
  */
 @SuppressWarnings("unchecked")
 public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHandler {
+    private static final String PROXY_HANDLER = "morphiaReferenceProxy";
     private final Reference annotation;
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
+    private Constructor<?> proxyConstructor;
+    private Field proxyHandler;
 
     /**
      * Creates a codec
@@ -215,29 +220,43 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
     }
 
     private <T> T createProxy(MorphiaReference reference) {
-        ReferenceProxy referenceProxy = new ReferenceProxy(reference);
         try {
+            Constructor<?> constructor = getProxyConstructor();
+            T proxy = (T) constructor.newInstance();
+            proxyHandler.set(proxy, new ReferenceProxy(reference));
+            return proxy;
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Generates the proxy class for this field's type once and reuses it for every reference decoded by this codec.  Each proxy
+     * instance carries its own {@link ReferenceProxy} in a generated field so the class itself is not bound to any one reference.
+     */
+    private synchronized Constructor<?> getProxyConstructor() throws ReflectiveOperationException {
+        if (proxyConstructor == null) {
             Class<?> type = getField().getType();
             String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
-            return ((Loaded<T>) new ByteBuddy()
-                                    .subclass(type)
-                                    .implement(MorphiaProxy.class)
-                                    .name(name)
+            Class<?> proxyType = new ByteBuddy()
+                                     .subclass(type)
+                                     .implement(MorphiaProxy.class)
+                                     .name(name)
+                                     .defineField(PROXY_HANDLER, InvocationHandler.class, Visibility.PUBLIC)
 
-                                    .invokable(ElementMatchers.isDeclaredBy(type))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
+                                     .invokable(ElementMatchers.isDeclaredBy(type))
+                                     .intercept(InvocationHandlerAdapter.toField(PROXY_HANDLER))
 
-                                    .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
+                                     .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
+                                     .intercept(InvocationHandlerAdapter.toField(PROXY_HANDLER))
 
-                                    .make()
-                                    .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER))
-                       .getLoaded()
-                       .getDeclaredConstructor()
-                       .newInstance();
-        } catch (ReflectiveOperationException | IllegalArgumentException e) {
-            throw new MappingException(e.getMessage(), e);
+                                     .make()
+                                     .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER)
+                                     .getLoaded();
+            proxyHandler = proxyType.getField(PROXY_HANDLER);
+            proxyConstructor = proxyType.getDeclaredConstructor();
         }
+        return proxyConstructor;
     }
 
     private Object fetch(Object value) {
@@ -1,8 +1,9 @@
 package dev.morphia.mapping.experimental;
 
 import com.mongodb.DBRef;
-import com.mongodb.client.MongoCursor;
 import dev.morphia.Datastore;
+import dev.morphia.GetResult;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
@@ -19,7 +20,6 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-import static dev.morphia.query.experimental.filters.Filters.in;
 import static java.util.Arrays.asList;
 
 /**
@@ -160,19 +160,36 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
     Map<Object, Object> query(String collection, List<Object> collectionIds) {
 
         final Map<Object, Object> idMap = new HashMap<>();
-        try (MongoCursor<?> cursor = getDatastore().find(collection)
-                                                   .disableValidation()
-                                                   .filter(in("_id", collectionIds)).iterator()) {
-            while (cursor.hasNext()) {
-                final Object entity = cursor.next();
-                idMap.put(getDatastore().getMapper().getId(entity), entity);
+        List<Object> remaining = collectionIds;
+        ReferenceBatch batch = ReferenceBatch.current();
+        IdentityMap identityMap = IdentityMap.find(getDatastore());
+        if (batch != null || identityMap != null) {
+            remaining = new ArrayList<>();
+            for (Object id : collectionIds) {
+                Object held = identityMap != null ? identityMap.get(collection, id) : null;
+                if (held != null) {
+                    idMap.put(id, held);
+                } else if (batch == null || !batch.contains(collection, id)) {
+                    remaining.add(id);
+                } else if (batch.get(collection, id) != null) {
+                    idMap.put(id, batch.get(collection, id));
+                }
+            }
+        }
+        if (!remaining.isEmpty()) {
+            GetResult<?> result = getDatastore().get(getDatastore().getMapper().getClassFromCollection(collection), remaining);
+            for (Object id : remaining) {
+                Object entity = result.get(id);
+                if (entity != null) {
+                    idMap.put(id, entity);
+                }
             }
+        }
 
-            if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
-                throw new ReferenceException(
-                    Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
+        if (!ignoreMissing() && idMap.size() != collectionIds.size()) {
+            throw new ReferenceException(
+                Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
 
-            }
         }
 
         return idMap;
@@ -0,0 +1,224 @@
+package dev.morphia.mapping.experimental;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.lang.Nullable;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.experimental.Cached;
+import dev.morphia.experimental.BaseMorphiaSession;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the raw documents of recently loaded entities for a collection keyed by ID.  Entries are stored in their raw form and decoded on
+ * each hit so callers never share an instance.  A cache is created for each collection mapped by a type annotated with {@link Cached}.
+ * <p>
+ * Writes made through the Datastore invalidate the affected entries once they complete or, for writes made in a transaction on a
+ * {@link dev.morphia.experimental.MorphiaSession}, once the transaction commits.  Documents read before an invalidation are not stored
+ * even if they arrive after it.  To see writes made by other applications, a change stream can be used to feed
+ * {@link #onChange(BsonDocument)}, e.g.:
+ * <pre>
+ * collection.watch().forEach(event -&gt; cache.onChange(event.getDocumentKey()));
+ * </pre>
+ *
+ * @morphia.experimental
+ * @see dev.morphia.mapping.Mapper#getEntityCache(Class)
+ * @since 2.2
+ */
+public class EntityCache {
+    private final CodecRegistry codecRegistry;
+    private final int maxSize;
+    private final long expireAfterNanos;
+    private final Map<Object, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long generation;
+
+    /**
+     * Creates a cache
+     *
+     * @param cached        the cache settings
+     * @param codecRegistry the registry to use when reading IDs from change events
+     * @morphia.internal
+     */
+    public EntityCache(Cached cached, CodecRegistry codecRegistry) {
+        this.codecRegistry = codecRegistry;
+        maxSize = Math.max(cached.maxSize(), 1);
+        expireAfterNanos = TimeUnit.SECONDS.toNanos(cached.expireAfterSeconds());
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up an entity
+     *
+     * @param id    the ID value
+     * @param codec the codec to decode the entity with
+     * @param <T>   the entity type
+     * @return a new instance of the entity or null if it is not cached
+     */
+    public <T> T get(Object id, Codec<T> codec) {
+        RawBsonDocument document = getDocument(id);
+        if (document == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return document.decode(codec);
+    }
+
+    /**
+     * Marks the start of a read whose results may be stored.  The stamp must be taken before the read is sent to the database.
+     *
+     * @return the stamp to pass to {@link #put(Object, RawBsonDocument, long)}
+     * @see #put(Object, RawBsonDocument, long)
+     */
+    public long stamp() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    /**
+     * Stores the raw form of an entity unless an entry has been invalidated since the read began as the document may predate that write.
+     *
+     * @param id       the ID value
+     * @param document the document as read from the database
+     * @param stamp    the value of {@link #stamp()} taken before the read
+     */
+    public void put(Object id, RawBsonDocument document, long stamp) {
+        long expiresAt = System.nanoTime() + expireAfterNanos;
+        synchronized (entries) {
+            if (stamp == generation) {
+                entries.put(id, new Entry(document, expiresAt));
+            }
+        }
+    }
+
+    /**
+     * Removes the entry for an ID
+     *
+     * @param id the ID value
+     */
+    public void invalidate(Object id) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(id);
+        }
+    }
+
+    /**
+     * Removes every entry
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Invalidates the entries affected by a completed write.  If the write was made in a transaction on a session, the entries are
+     * invalidated once it commits since until then other readers still see, and may store, the old documents.  Transactions on a
+     * {@link ClientSession} passed directly in the options rather than through a session can not be followed and are invalidated
+     * immediately.
+     *
+     * @param datastore the datastore the write was made through
+     * @param session   the session the write was made in or null
+     * @param id        the ID value written or null if the write may have touched any entity
+     * @morphia.internal
+     */
+    public void afterWrite(Datastore datastore, @Nullable ClientSession session, @Nullable Object id) {
+        Runnable invalidation = id != null ? () -> invalidate(id) : this::invalidateAll;
+        if (session != null && session.hasActiveTransaction() && datastore instanceof BaseMorphiaSession
+            && ((BaseMorphiaSession) datastore).getSession() == session) {
+            ((BaseMorphiaSession) datastore).afterCommit(invalidation);
+        } else {
+            invalidation.run();
+        }
+    }
+
+    /**
+     * Removes the entry for the document named by a change event
+     *
+     * @param documentKey the document key of the change event, i.e., a document holding the {@code _id} of the changed document
+     */
+    public void onChange(BsonDocument documentKey) {
+        if (documentKey != null && documentKey.containsKey("_id")) {
+            Document decoded = codecRegistry.get(Document.class).decode(documentKey.asBsonReader(), DecoderContext.builder().build());
+            invalidate(decoded.get("_id"));
+        }
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups not answered from the cache
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries removed to make room for others or because they expired
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of entries currently held
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private RawBsonDocument getDocument(Object id) {
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (expireAfterNanos > 0 && entry.expiresAt - System.nanoTime() < 0) {
+                entries.remove(id);
+                evictions.increment();
+                return null;
+            }
+            return entry.document;
+        }
+    }
+
+    private static final class Entry {
+        private final RawBsonDocument document;
+        private final long expiresAt;
+
+        private Entry(RawBsonDocument document, long expiresAt) {
+            this.document = document;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package dev.morphia.mapping.experimental;
+
+import dev.morphia.annotations.Handler;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Wrapper type for embedded values which should only be decoded when first read.  When an entity is loaded, a {@code LazyValue} field
+ * keeps the raw BSON of its sub-document and only decodes it when {@link #get()} is first called.  If the value is never read, the raw
+ * bytes are written back unchanged when the entity is saved and two unread values are compared by their bytes.  This is useful for large
+ * sub-documents that are rarely needed, e.g., an audit history on an otherwise small entity.
+ *
+ * @param <T> the type of the wrapped value
+ * @since 2.2
+ */
+@Handler(LazyValueCodec.class)
+public final class LazyValue<T> {
+    private Codec<T> codec;
+    private RawBsonDocument raw;
+    private T value;
+
+    private LazyValue(T value) {
+        this.value = value;
+    }
+
+    LazyValue(Codec<T> codec, RawBsonDocument raw) {
+        this.codec = codec;
+        this.raw = raw;
+    }
+
+    /**
+     * Wraps a value in a LazyValue for storing on an entity
+     *
+     * @param value the value to wrap
+     * @param <V>   the type of the value
+     * @return the LazyValue wrapper
+     */
+    public static <V> LazyValue<V> wrap(V value) {
+        return new LazyValue<>(value);
+    }
+
+    /**
+     * Returns the wrapped value, decoding it first if necessary.
+     *
+     * @return the value
+     */
+    public T get() {
+        if (raw != null) {
+            value = codec.decode(raw.asBsonReader(), DecoderContext.builder().build());
+            raw = null;
+            codec = null;
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the wrapped value
+     *
+     * @param value the new value
+     */
+    public void set(T value) {
+        this.value = value;
+        raw = null;
+        codec = null;
+    }
+
+    /**
+     * @return true if the value has been decoded or was set directly
+     */
+    public boolean isDecoded() {
+        return raw == null;
+    }
+
+    RawBsonDocument getRaw() {
+        return raw;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyValue)) {
+            return false;
+        }
+        LazyValue<?> other = (LazyValue<?>) o;
+        if (!isDecoded() && !other.isDecoded()) {
+            return bytes().equals(other.bytes());
+        }
+        return Objects.equals(get(), other.get());
+    }
+
+    /**
+     * The hash code of a value that has not been decoded is that of its raw bytes so it differs from the hash code of the same value once
+     * decoded.  Values in hash based collections should all be read or all be left unread.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return isDecoded() ? Objects.hashCode(value) : bytes().hashCode();
+    }
+
+    private ByteBuffer bytes() {
+        return raw.getByteBuffer().asNIO();
+    }
+
+    @Override
+    public String toString() {
+        return isDecoded() ? "LazyValue{" + value + "}" : "LazyValue{<" + raw.getByteBuffer().remaining() + " bytes>}";
+    }
+}
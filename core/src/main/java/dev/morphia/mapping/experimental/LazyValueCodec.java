@@ -0,0 +1,86 @@
+package dev.morphia.mapping.experimental;
+
+import dev.morphia.Datastore;
+import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.PropertyCodec;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.mapping.codec.pojo.TypeData;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+
+import java.lang.reflect.Field;
+
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+
+/**
+ * Defines a codec for LazyValue values.  Sub-documents are copied out of the reader as raw BSON and only decoded on first access.  Any
+ * other BSON type is decoded immediately.
+ *
+ * @since 2.2
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class LazyValueCodec extends PropertyCodec<LazyValue> implements PropertyHandler {
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+
+    private Codec valueCodec;
+
+    /**
+     * Creates a codec
+     *
+     * @param datastore the datastore
+     * @param field     the lazy field
+     * @param typeData  the field type data
+     */
+    public LazyValueCodec(Datastore datastore, Field field, TypeData typeData) {
+        super(datastore, field, (TypeData) typeData.getTypeParameters().get(0));
+    }
+
+    @Override
+    public LazyValue decode(BsonReader reader, DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() != BsonType.DOCUMENT) {
+            return LazyValue.wrap(decoderContext.decodeWithChildContext(getValueCodec(), reader));
+        }
+        return new LazyValue<>(getValueCodec(), RAW_CODEC.decode(reader, decoderContext));
+    }
+
+    @Override
+    public Object encode(Object value) {
+        LazyValue<Object> wrap = value instanceof LazyValue ? (LazyValue<Object>) value : LazyValue.wrap(value);
+        DocumentWriter writer = new DocumentWriter();
+        document(writer, () -> {
+            writer.writeName("value");
+            encode(writer, wrap, EncoderContext.builder().build());
+        });
+        return writer.getDocument().get("value");
+    }
+
+    @Override
+    public void encode(BsonWriter writer, LazyValue value, EncoderContext encoderContext) {
+        if (!value.isDecoded()) {
+            encoderContext.encodeWithChildContext(RAW_CODEC, writer, value.getRaw());
+        } else if (value.get() == null) {
+            writer.writeNull();
+        } else {
+            Object decoded = value.get();
+            Codec codec = getDatastore().getMapper().getCodecRegistry().get(decoded.getClass());
+            encoderContext.encodeWithChildContext(codec, writer, decoded);
+        }
+    }
+
+    @Override
+    public Class getEncoderClass() {
+        return LazyValue.class;
+    }
+
+    private Codec getValueCodec() {
+        if (valueCodec == null) {
+            valueCodec = getDatastore().getMapper().getCodecRegistry().get(getTypeData().getType());
+        }
+        return valueCodec;
+    }
+}
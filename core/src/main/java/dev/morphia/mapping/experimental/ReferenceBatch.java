@@ -0,0 +1,192 @@
+package dev.morphia.mapping.experimental;
+
+import dev.morphia.Datastore;
+import dev.morphia.GetResult;
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.DecoderContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+import static dev.morphia.mapping.codec.references.ReferenceCodec.processId;
+
+/**
+ * Collects the IDs of the eager references found in a batch of documents so they can be fetched with a single query per referenced
+ * collection rather than one query per entity.  While a batch is {@link #bind(Supplier) bound} to the current thread,
+ * {@link SingleReference} and {@link CollectionReference} consult it before going to the database.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ReferenceBatch {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+    private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
+
+    private final Datastore datastore;
+    private final Map<EntityModel, List<FieldModel>> referenceFields = new IdentityHashMap<>();
+    private final Map<String, List<Object>> collections = new HashMap<>();
+    private final Map<String, Map<Object, Object>> resolved = new HashMap<>();
+
+    /**
+     * Creates a new batch
+     *
+     * @param datastore the datastore to use
+     */
+    public ReferenceBatch(Datastore datastore) {
+        this.datastore = datastore;
+    }
+
+    /**
+     * @return the batch bound to the current thread or null
+     */
+    static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Registers the IDs of any eager references found on a document
+     *
+     * @param model    the model of the document's type
+     * @param document the document to scan
+     */
+    public void collect(EntityModel model, BsonDocument document) {
+        Mapper mapper = datastore.getMapper();
+        for (FieldModel field : getReferenceFields(model)) {
+            BsonValue value = findValue(field, document);
+            if (value != null && !value.isNull()) {
+                EntityModel referenced = mapper.getEntityModel(field.getNormalizedType());
+                if (referenced != null) {
+                    Object id = processId(decode(mapper, value), mapper, DecoderContext.builder().build());
+                    if (Map.class.isAssignableFrom(field.getType()) && id instanceof Document) {
+                        for (Object o : ((Document) id).values()) {
+                            register(referenced, processId(o, mapper, DecoderContext.builder().build()));
+                        }
+                    } else {
+                        register(referenced, id);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fetches every collected ID, in chunks, with one query per chunk for each collection.
+     */
+    public void resolve() {
+        Mapper mapper = datastore.getMapper();
+        for (Entry<String, List<Object>> entry : collections.entrySet()) {
+            Map<Object, Object> entities = resolved.computeIfAbsent(entry.getKey(), k -> new HashMap<>());
+            List<Object> ids = new ArrayList<>();
+            for (Object id : entry.getValue()) {
+                if (!entities.containsKey(id)) {
+                    ids.add(id);
+                }
+            }
+            if (!ids.isEmpty()) {
+                GetResult<?> result = datastore.get(mapper.getClassFromCollection(entry.getKey()), ids);
+                for (Object id : ids) {
+                    entities.put(id, result.get(id));
+                }
+            }
+        }
+        collections.clear();
+    }
+
+    /**
+     * Runs the given operation with this batch bound to the current thread
+     *
+     * @param operation the operation to run
+     * @param <T>       the result type
+     * @return the result of the operation
+     */
+    public <T> T bind(Supplier<T> operation) {
+        ReferenceBatch previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return operation.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * @param collection the collection name
+     * @param id         the ID value
+     * @return true if this batch has already queried for the ID
+     */
+    boolean contains(String collection, Object id) {
+        Map<Object, Object> entities = resolved.get(collection);
+        return entities != null && entities.containsKey(id);
+    }
+
+    /**
+     * @param collection the collection name
+     * @param id         the ID value
+     * @return the entity fetched for the ID or null if it was not found
+     */
+    Object get(String collection, Object id) {
+        Map<Object, Object> entities = resolved.get(collection);
+        return entities != null ? entities.get(id) : null;
+    }
+
+    private Object decode(Mapper mapper, BsonValue value) {
+        BsonReader reader = new BsonDocumentReader(new BsonDocument("value", value));
+        reader.readStartDocument();
+        reader.readBsonType();
+        reader.readName();
+        return mapper.getCodecRegistry()
+                     .get(BSON_TYPE_CLASS_MAP.get(reader.getCurrentBsonType()))
+                     .decode(reader, DecoderContext.builder().build());
+    }
+
+    private BsonValue findValue(FieldModel field, BsonDocument document) {
+        for (String name : field.getLoadNames()) {
+            BsonValue value = document.get(name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private List<FieldModel> getReferenceFields(EntityModel model) {
+        return referenceFields.computeIfAbsent(model, m -> {
+            List<FieldModel> fields = new ArrayList<>();
+            for (FieldModel field : m.getFields(Reference.class)) {
+                if (!field.getAnnotation(Reference.class).lazy()) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        });
+    }
+
+    private void register(EntityModel model, Object id) {
+        if (id instanceof List) {
+            for (Object o : (List) id) {
+                register(model, o);
+            }
+        } else if (id != null) {
+            CollectionReference.collate(model, collections, id);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package dev.morphia.mapping.experimental;
 
 import com.mongodb.DBRef;
 import dev.morphia.Datastore;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
@@ -69,7 +70,18 @@ public class SingleReference<T> extends MorphiaReference<T> {
     @Override
     public T get() {
         if (!isResolved() && value == null && id != null) {
-            value = (T) buildQuery().iterator().tryNext();
+            ReferenceBatch batch = ReferenceBatch.current();
+            String collection = id instanceof DBRef ? ((DBRef) id).getCollectionName() : entityModel.getCollectionName();
+            Object rawId = id instanceof DBRef ? ((DBRef) id).getId() : id;
+            IdentityMap identityMap = IdentityMap.find(getDatastore());
+            Object held = identityMap != null ? identityMap.get(collection, rawId) : null;
+            if (held != null) {
+                value = (T) held;
+            } else if (batch != null && batch.contains(collection, rawId)) {
+                value = (T) batch.get(collection, rawId);
+            } else {
+                value = (T) buildQuery().first();
+            }
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                     Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
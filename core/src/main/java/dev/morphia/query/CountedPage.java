@@ -0,0 +1,50 @@
+package dev.morphia.query;
+
+import java.util.List;
+
+/**
+ * A page of results fetched by offset along with the total number of results matching the query
+ *
+ * @param <T> the entity type
+ * @see Query#page(FindOptions)
+ * @since 2.2
+ */
+public class CountedPage<T> {
+    private final List<T> items;
+    private final long total;
+    private final int skip;
+
+    CountedPage(List<T> items, long total, int skip) {
+        this.items = items;
+        this.total = total;
+        this.skip = skip;
+    }
+
+    /**
+     * @return the results on this page
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return the number of results skipped before this page
+     */
+    public int getSkip() {
+        return skip;
+    }
+
+    /**
+     * @return the total number of results matching the query across all pages
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return true if there are more results after this page
+     */
+    public boolean hasNext() {
+        return skip + items.size() < total;
+    }
+}
@@ -29,12 +29,15 @@ import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.internal.FindTarget;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -46,6 +49,9 @@ import java.util.concurrent.TimeUnit;
  */
 public final class FindOptions implements SessionConfigurable<FindOptions>, ReadConfigurable<FindOptions> {
     private int batchSize;
+    private boolean batchReferences;
+    private Executor decodeExecutor;
+    private boolean decodeOrdered = true;
     private int limit;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
@@ -84,40 +90,69 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
      * @morphia.internal
      */
     public <T> FindIterable<T> apply(FindIterable<T> iterable, Mapper mapper, Class<?> type) {
-        if (projection != null) {
-            iterable.projection(projection.map(mapper, type));
-        }
+        return apply(iterable, mapProjection(mapper, type), mapSort(mapper, type));
+    }
+
+    <T> FindIterable<T> apply(FindIterable<T> iterable, Document mappedProjection, Document mappedSort) {
+        apply(FindTarget.of(iterable), mappedProjection, mappedSort);
+        return iterable;
+    }
 
-        iterable.batchSize(batchSize);
-        iterable.collation(collation);
-        iterable.comment(comment);
+    /**
+     * Applies these options to a driver find operation
+     *
+     * @param target           the find to configure
+     * @param mappedProjection the mapped projection or null
+     * @param mappedSort       the mapped sort or null
+     * @morphia.internal
+     * @since 2.2
+     */
+    public void apply(FindTarget target, Document mappedProjection, Document mappedSort) {
+        if (mappedProjection != null) {
+            target.projection(mappedProjection);
+        }
+        if (batchSize != 0) {
+            target.batchSize(batchSize);
+        }
+        target.collation(collation);
+        target.comment(comment);
         if (cursorType != null) {
-            iterable.cursorType(cursorType);
-        }
-        iterable.hint(hint);
-        iterable.hintString(hintString);
-        iterable.limit(limit);
-        iterable.max(max);
-        iterable.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
-        iterable.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
-        iterable.min(min);
-        iterable.noCursorTimeout(noCursorTimeout);
-        iterable.oplogReplay(oplogReplay);
-        iterable.partial(partial);
-        iterable.returnKey(returnKey);
-        iterable.showRecordId(showRecordId);
-        iterable.skip(skip);
-        if (sort != null) {
-            Document mapped = new Document();
-            EntityModel model = mapper.getEntityModel(type);
-            for (Entry<String, Object> entry : sort.entrySet()) {
-                Object value = entry.getValue();
-                boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
-                mapped.put(new PathTarget(mapper, model, entry.getKey(), !metaScore).translatedPath(), value);
-            }
-            iterable.sort(mapped);
+            target.cursorType(cursorType);
         }
-        return iterable;
+        target.hint(hint);
+        target.hintString(hintString);
+        target.limit(limit);
+        target.max(max);
+        target.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
+        target.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
+        target.min(min);
+        target.noCursorTimeout(noCursorTimeout);
+        target.oplogReplay(oplogReplay);
+        target.partial(partial);
+        target.returnKey(returnKey);
+        target.showRecordId(showRecordId);
+        target.skip(skip);
+        if (mappedSort != null) {
+            target.sort(mappedSort);
+        }
+    }
+
+    Document mapProjection(Mapper mapper, Class<?> type) {
+        return projection != null ? projection.map(mapper, type) : null;
+    }
+
+    Document mapSort(Mapper mapper, Class<?> type) {
+        if (sort == null) {
+            return null;
+        }
+        Document mapped = new Document();
+        EntityModel model = mapper.getEntityModel(type);
+        for (Entry<String, Object> entry : sort.entrySet()) {
+            Object value = entry.getValue();
+            boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
+            mapped.put(new PathTarget(mapper, model, entry.getKey(), !metaScore).translatedPath(), value);
+        }
+        return mapped;
     }
 
     /**
@@ -131,6 +166,19 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Resolves the eager references of each batch of results with a single query per referenced collection rather than one query per
+     * entity.  The batch size used is the value set via {@link #batchSize(int)} if any.
+     *
+     * @param batchReferences true if references should be resolved a batch at a time
+     * @return this
+     * @since 2.2
+     */
+    public FindOptions batchReferences(boolean batchReferences) {
+        this.batchReferences = batchReferences;
+        return this;
+    }
+
     /**
      * Set the client session to use for the insert.
      *
@@ -191,6 +239,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
      */
     public FindOptions copy(FindOptions original) {
         this.batchSize = original.batchSize;
+        this.batchReferences = original.batchReferences;
+        this.decodeExecutor = original.decodeExecutor;
+        this.decodeOrdered = original.decodeOrdered;
         this.limit = original.limit;
         this.maxTimeMS = original.maxTimeMS;
         this.maxAwaitTimeMS = original.maxAwaitTimeMS;
@@ -228,6 +279,36 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Decodes the results on the given executor.  While one batch of documents is being decoded the next is read from the server so
+     * that reading large result sets is not limited by decoding on a single thread.  Results are still returned in order unless
+     * {@link #decodeOrdered(boolean)} is turned off.  Streams taken from the resulting cursor split on batch boundaries so that parallel
+     * streams decode each batch on its own thread.  Eager references are always resolved a batch at a time on the reading thread so that
+     * the decoding threads never query the database, e.g., through a session which must not be used concurrently.
+     *
+     * @param decodeExecutor the executor to decode with or null to decode on the calling thread
+     * @return this
+     * @see dev.morphia.query.internal.MorphiaCursor#stream()
+     * @since 2.2
+     */
+    public FindOptions decodeExecutor(Executor decodeExecutor) {
+        this.decodeExecutor = decodeExecutor;
+        return this;
+    }
+
+    /**
+     * Sets whether results decoded with a {@link #decodeExecutor(Executor) decode executor} must be returned in the order the server
+     * sent them.  When not ordered, each batch is returned as soon as it is decoded.  The default is true.
+     *
+     * @param decodeOrdered true if results should keep their order
+     * @return this
+     * @since 2.2
+     */
+    public FindOptions decodeOrdered(boolean decodeOrdered) {
+        this.decodeOrdered = decodeOrdered;
+        return this;
+    }
+
     /**
      * @return the batch size
      */
@@ -235,6 +316,15 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.batchSize;
     }
 
+    /**
+     * @return true if references are resolved a batch at a time
+     * @see #batchReferences(boolean)
+     * @since 2.2
+     */
+    public boolean isBatchReferences() {
+        return this.batchReferences;
+    }
+
     /**
      * @return the collation
      */
@@ -256,6 +346,15 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.cursorType;
     }
 
+    /**
+     * @return the executor to decode results with, if any
+     * @see #decodeExecutor(Executor)
+     * @since 2.2
+     */
+    public Executor getDecodeExecutor() {
+        return decodeExecutor;
+    }
+
     /**
      * @return the index hint
      */
@@ -263,6 +362,14 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this.hint;
     }
 
+    /**
+     * @return the hint string to use
+     * @since 2.2
+     */
+    public String getHintString() {
+        return hintString;
+    }
+
     /**
      * @return the limit
      */
@@ -350,6 +457,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     public String toString() {
         return new StringJoiner(", ", FindOptions.class.getSimpleName() + "[", "]")
                    .add("batchSize=" + batchSize)
+                   .add("batchReferences=" + batchReferences)
+                   .add("decodeExecutor=" + decodeExecutor)
+                   .add("decodeOrdered=" + decodeOrdered)
                    .add("limit=" + limit)
                    .add("maxTimeMS=" + maxTimeMS)
                    .add("maxAwaitTimeMS=" + maxAwaitTimeMS)
@@ -412,6 +522,15 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return hint(new Document(hint.toMap()));
     }
 
+    /**
+     * @return true if results decoded with a decode executor keep their order
+     * @see #decodeOrdered(boolean)
+     * @since 2.2
+     */
+    public boolean isDecodeOrdered() {
+        return decodeOrdered;
+    }
+
     /**
      * This is an experimental method.  It's implementation and presence are subject to change.
      *
@@ -609,6 +728,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     @Override
     public int hashCode() {
         int result = getBatchSize();
+        result = 31 * result + (isBatchReferences() ? 1 : 0);
+        result = 31 * result + (getDecodeExecutor() != null ? getDecodeExecutor().hashCode() : 0);
+        result = 31 * result + (isDecodeOrdered() ? 1 : 0);
         result = 31 * result + getLimit();
         result = 31 * result + (int) (maxTimeMS ^ (maxTimeMS >>> 32));
         result = 31 * result + (int) (maxAwaitTimeMS ^ (maxAwaitTimeMS >>> 32));
@@ -644,6 +766,15 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         if (getBatchSize() != that.getBatchSize()) {
             return false;
         }
+        if (isBatchReferences() != that.isBatchReferences()) {
+            return false;
+        }
+        if (!Objects.equals(getDecodeExecutor(), that.getDecodeExecutor())) {
+            return false;
+        }
+        if (isDecodeOrdered() != that.isDecodeOrdered()) {
+            return false;
+        }
         if (getLimit() != that.getLimit()) {
             return false;
         }
@@ -10,12 +10,18 @@ import dev.morphia.Datastore;
 import dev.morphia.DatastoreImpl;
 import dev.morphia.DeleteOptions;
 import dev.morphia.annotations.Entity;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.experimental.EntityCache;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
+import dev.morphia.query.internal.ReferenceBatchingCursor;
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -158,16 +164,21 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public DeleteResult delete(DeleteOptions options) {
+        evict();
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(getQueryDocument(), options)
+                       : collection.deleteMany(session, getQueryDocument(), options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(getQueryDocument(), options)
+                       : collection.deleteOne(session, getQueryDocument(), options);
+            }
+        } finally {
+            afterWrite(session);
         }
     }
 
@@ -187,11 +198,16 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public T findAndDelete(FindAndDeleteOptions options) {
+        evict();
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
+                   : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        } finally {
+            afterWrite(session);
+        }
     }
 
     /**
@@ -267,6 +283,15 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
+        if (options.getDecodeExecutor() != null) {
+            return new MorphiaCursor<>(new ParallelDecodingCursor<>(
+                prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class)), datastore, clazz, options));
+        }
+        if (options.isBatchReferences()) {
+            return new MorphiaCursor<>(new ReferenceBatchingCursor<>(
+                prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class)), datastore, clazz,
+                options.getBatchSize()));
+        }
         return new MorphiaCursor<>(prepareCursor(options, getCollection()));
     }
 
@@ -296,6 +321,21 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return new Update<>(datastore, mapper, getCollection(), this, clazz, first, updates);
     }
 
+    @Override
+    public CountedPage<T> page(FindOptions options) {
+        return new Paginator<>(datastore, getCollection(), clazz, toBsonDocument()).page(options);
+    }
+
+    @Override
+    public Page<T> paginate(PageSpec spec) {
+        return new Paginator<>(datastore, getCollection(), clazz, toBsonDocument()).page(spec);
+    }
+
+    @Override
+    public PreparedQuery<T> prepare(FindOptions options) {
+        return new PreparedQuery<>(datastore, getCollection(), clazz, toBsonDocument(), options);
+    }
+
     @Override
     public Query<T> retrieveKnownFields() {
         getOptions().projection().knownFields();
@@ -321,6 +361,18 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return new Update<>(datastore, mapper, getCollection(), this, clazz, (UpdateOpsImpl<T>) operations);
     }
 
+    /**
+     * Encodes the query to a BsonDocument using the mapper's codecs
+     *
+     * @return the query
+     * @morphia.internal
+     * @since 2.2
+     */
+    @Override
+    public BsonDocument toBsonDocument() {
+        return toDocument().toBsonDocument(Document.class, mapper.getCodecRegistry());
+    }
+
     /**
      * Converts the query to a Document and updates for any discriminator values as my be necessary
      *
@@ -427,6 +479,24 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return collectionName;
     }
 
+    private void afterWrite(ClientSession session) {
+        EntityCache cache = datastore.getMapper().getEntityCache(getCollectionName());
+        if (cache != null) {
+            cache.afterWrite(datastore, session, null);
+        }
+    }
+
+    private void evict() {
+        IdentityMap identityMap = IdentityMap.of(datastore);
+        if (identityMap != null && getCollectionName() != null) {
+            identityMap.clear(getCollectionName());
+        }
+        EntityCache cache = datastore.getMapper().getEntityCache(getCollectionName());
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
     private Document getQueryDocument() {
         final Document obj = new Document();
 
@@ -6,7 +6,7 @@ import dev.morphia.Datastore;
 import dev.morphia.ModifyOptions;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.experimental.updates.UpdateOperator;
-import org.bson.Document;
+import org.bson.BsonDocument;
 
 /**
  * Represents a modify operation
@@ -43,11 +43,16 @@ public class Modify<T> extends UpdateBase<T> {
      * @return the operation result
      */
     public T execute(ModifyOptions options) {
+        evict();
         ClientSession session = getDatastore().findSession(options);
-        Document update = toDocument();
-
-        return session == null
-               ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
-               : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        BsonDocument update = toBsonDocument();
+
+        try {
+            return session == null
+                   ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toBsonDocument(), update, options)
+                   : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toBsonDocument(), update, options);
+        } finally {
+            afterWrite(session);
+        }
     }
 }
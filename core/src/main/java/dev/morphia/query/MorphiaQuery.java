@@ -8,16 +8,26 @@ import com.mongodb.client.model.geojson.Point;
 import com.mongodb.client.result.DeleteResult;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.MergingBsonWriter;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.experimental.EntityCache;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.experimental.filters.NearFilter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.IdentityMapCursor;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
+import dev.morphia.query.internal.ReferenceBatchingCursor;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,11 +36,13 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.StringJoiner;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.value;
 import static dev.morphia.query.experimental.filters.Filters.text;
 import static java.lang.String.format;
 
@@ -96,23 +108,28 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public long count(CountOptions options) {
         ClientSession session = datastore.findSession(options);
-        Document query = getQueryDocument();
+        BsonDocument query = toBsonDocument();
         return session == null ? getCollection().countDocuments(query, options)
                                : getCollection().countDocuments(session, query, options);
     }
 
     @Override
     public DeleteResult delete(DeleteOptions options) {
+        evict();
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(toBsonDocument(), options)
+                       : collection.deleteMany(session, toBsonDocument(), options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(toBsonDocument(), options)
+                       : collection.deleteOne(session, toBsonDocument(), options);
+            }
+        } finally {
+            afterWrite(session);
         }
     }
 
@@ -167,11 +184,16 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public T findAndDelete(FindAndDeleteOptions options) {
+        evict();
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(toBsonDocument(), options)
+                   : mongoCollection.findOneAndDelete(session, toBsonDocument(), options);
+        } finally {
+            afterWrite(session);
+        }
     }
 
     @Override
@@ -181,11 +203,42 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public T first(FindOptions options) {
+        IdentityMap identityMap = IdentityMap.of(datastore);
+        EntityCache cache = datastore.findSession(options) == null ? mapper.getEntityCache(getCollectionName()) : null;
+        Object id = (identityMap != null || cache != null) && options.getProjection() == null && options.getSkip() == 0
+                    ? getIdFilterValue()
+                    : null;
+        if (id != null) {
+            Object held = identityMap != null ? identityMap.get(getCollectionName(), id) : null;
+            if (held != null && clazz.isInstance(held)) {
+                return clazz.cast(held);
+            }
+            if (cache != null) {
+                return first(cache, id, options);
+            }
+        }
         try (MongoCursor<T> it = iterator(options.copy().limit(1))) {
             return it.tryNext();
         }
     }
 
+    private T first(EntityCache cache, Object id, FindOptions options) {
+        Codec<T> codec = mapper.getCodecRegistry().get(clazz);
+        T entity = cache.get(id, codec);
+        if (entity == null) {
+            long stamp = cache.stamp();
+            try (MongoCursor<RawBsonDocument> cursor = prepareCursor(options.copy().limit(1),
+                getCollection().withDocumentClass(RawBsonDocument.class))) {
+                RawBsonDocument document = cursor.tryNext();
+                if (document != null) {
+                    cache.put(id, document, stamp);
+                    entity = document.decode(codec);
+                }
+            }
+        }
+        return clazz.isInstance(entity) ? entity : null;
+    }
+
     @Override
     public Class<T> getEntityClass() {
         return clazz;
@@ -198,7 +251,22 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        MongoCursor<T> cursor;
+        if (options.getDecodeExecutor() != null) {
+            cursor = new ParallelDecodingCursor<>(
+                prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class)), datastore, clazz, options);
+        } else if (options.isBatchReferences()) {
+            cursor = new ReferenceBatchingCursor<>(
+                prepareCursor(options, getCollection().withDocumentClass(RawBsonDocument.class)), datastore, clazz,
+                options.getBatchSize());
+        } else {
+            cursor = prepareCursor(options, getCollection());
+        }
+        IdentityMap identityMap = IdentityMap.of(datastore);
+        if (identityMap != null && options.getProjection() == null) {
+            cursor = new IdentityMapCursor<>(cursor, identityMap, getCollectionName(), mapper);
+        }
+        return new MorphiaCursor<>(cursor);
     }
 
     @Override
@@ -222,6 +290,21 @@ public class MorphiaQuery<T> implements Query<T> {
         return new Modify<>(datastore, mapper, getCollection(), this, getEntityClass(), first, updates);
     }
 
+    @Override
+    public CountedPage<T> page(FindOptions options) {
+        return new Paginator<>(datastore, getCollection(), clazz, toBsonDocument()).page(options);
+    }
+
+    @Override
+    public Page<T> paginate(PageSpec spec) {
+        return new Paginator<>(datastore, getCollection(), clazz, toBsonDocument()).page(spec);
+    }
+
+    @Override
+    public PreparedQuery<T> prepare(FindOptions options) {
+        return new PreparedQuery<>(datastore, getCollection(), clazz, toBsonDocument(), options);
+    }
+
     @Override
     public Query<T> search(String searchText) {
         return filter(text(searchText));
@@ -245,6 +328,39 @@ public class MorphiaQuery<T> implements Query<T> {
         return query;
     }
 
+    /**
+     * Encodes the query directly to a BsonDocument and updates for any discriminator values as my be necessary
+     *
+     * @return the query
+     * @morphia.internal
+     * @since 2.2
+     */
+    @Override
+    public BsonDocument toBsonDocument() {
+        MergingBsonWriter writer = new MergingBsonWriter();
+        document(writer, () -> {
+            EncoderContext context = EncoderContext.builder().build();
+            if (seedQuery != null) {
+                for (Entry<String, Object> entry : seedQuery.entrySet()) {
+                    writer.writeName(entry.getKey());
+                    if (entry.getValue() == null) {
+                        writer.writeNull();
+                    } else {
+                        value(mapper, writer, entry.getValue(), context);
+                    }
+                }
+            }
+            for (Filter filter : filters) {
+                filter.encode(mapper, writer, context);
+            }
+        });
+
+        BsonDocument query = writer.getDocument();
+        mapper.updateQueryWithDiscriminators(mapper.getEntityModel(getEntityClass()), query);
+
+        return query;
+    }
+
     @Override
     public Update<T> update(UpdateOperator first, UpdateOperator... updates) {
         return new Update<>(datastore, mapper, getCollection(), this, clazz, first, updates);
@@ -289,9 +405,56 @@ public class MorphiaQuery<T> implements Query<T> {
         return collectionName;
     }
 
+    /**
+     * @return the ID value if this query only filters on the entity's ID or null otherwise
+     */
+    private Object getIdFilterValue() {
+        if (clazz == null || filters.size() != 1 || seedQuery != null && !seedQuery.isEmpty() || !mapper.isMappable(clazz)) {
+            return null;
+        }
+        Filter filter = filters.get(0);
+        FieldModel idField = mapper.getEntityModel(clazz).getIdField();
+        String field = filter.getField();
+        if (idField == null || filter.isNot() || !"$eq".equals(filter.getName())
+            || !("_id".equals(field) || idField.getName().equals(field))) {
+            return null;
+        }
+        Object value = filter.getValue();
+        return value instanceof Parameter || value instanceof Filter ? null : value;
+    }
+
+    private void afterWrite(ClientSession session) {
+        EntityCache cache = mapper.getEntityCache(getCollectionName());
+        if (cache != null && getCollectionName() != null) {
+            cache.afterWrite(datastore, session, getIdFilterValue());
+        }
+    }
+
+    private void evict() {
+        IdentityMap identityMap = IdentityMap.of(datastore);
+        EntityCache cache = mapper.getEntityCache(getCollectionName());
+        if ((identityMap != null || cache != null) && getCollectionName() != null) {
+            Object id = getIdFilterValue();
+            if (identityMap != null) {
+                if (id != null) {
+                    identityMap.remove(getCollectionName(), id);
+                } else {
+                    identityMap.clear(getCollectionName());
+                }
+            }
+            if (cache != null) {
+                if (id != null) {
+                    cache.invalidate(id);
+                } else {
+                    cache.invalidateAll();
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("ConstantConditions")
     private <E> MongoCursor<E> prepareCursor(FindOptions findOptions, MongoCollection<E> collection) {
-        final Document query = toDocument();
+        final BsonDocument query = toBsonDocument();
 
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
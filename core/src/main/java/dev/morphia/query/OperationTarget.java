@@ -5,6 +5,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
@@ -77,6 +78,39 @@ public class OperationTarget {
         return new Document(target.translatedPath(), mappedValue);
     }
 
+    /**
+     * Encodes this target directly to a writer.  A name must already have been written.
+     *
+     * @param mapper         the mapper
+     * @param writer         the writer to use
+     * @param encoderContext the context
+     * @morphia.internal
+     * @since 2.2
+     */
+    public void encode(Mapper mapper, BsonWriter writer, EncoderContext encoderContext) {
+        if (target == null) {
+            writeValue(mapper, writer, encode(mapper), encoderContext);
+            return;
+        }
+        FieldModel mappedField = this.target.getTarget();
+
+        FieldModel model = mappedField != null
+                              ? mappedField.getEntityModel()
+                                           .getField(mappedField.getName())
+                              : null;
+
+        Codec cachedCodec = model != null && !(value instanceof LegacyQuery)
+                            ? model.getCachedCodec()
+                            : null;
+        Object mappedValue = cachedCodec instanceof PropertyHandler
+                             ? ((PropertyHandler) cachedCodec).encode(value)
+                             : value;
+        document(writer, () -> {
+            writer.writeName(target.translatedPath());
+            writeValue(mapper, writer, mappedValue, encoderContext);
+        });
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", OperationTarget.class.getSimpleName() + "[", "]")
@@ -84,4 +118,12 @@ public class OperationTarget {
                    .add("value=" + value)
                    .toString();
     }
+
+    private static void writeValue(Mapper mapper, BsonWriter writer, Object value, EncoderContext encoderContext) {
+        if (value == null) {
+            writer.writeNull();
+        } else {
+            value(mapper, writer, value, encoderContext);
+        }
+    }
 }
@@ -3,10 +3,13 @@ package dev.morphia.query;
 import dev.morphia.UpdateDocument;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.MergingBsonWriter;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.codecs.EncoderContext;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -15,6 +18,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.StringJoiner;
 
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+
 /**
  * @morphia.internal
  */
@@ -95,4 +100,24 @@ class Operations {
         return document;
     }
 
+    /**
+     * @return the BsonDocument form of this instance
+     * @morphia.internal
+     */
+    BsonDocument toBsonDocument() {
+        versionUpdate();
+
+        MergingBsonWriter writer = new MergingBsonWriter();
+        document(writer, () -> {
+            EncoderContext encoderContext = EncoderContext.builder().build();
+            for (Entry<String, List<OperationTarget>> entry : ops.entrySet()) {
+                for (OperationTarget operationTarget : entry.getValue()) {
+                    writer.writeName(entry.getKey());
+                    operationTarget.encode(mapper, writer, encoderContext);
+                }
+            }
+        });
+        return writer.getDocument();
+    }
+
 }
@@ -0,0 +1,44 @@
+package dev.morphia.query;
+
+import java.util.List;
+
+/**
+ * A page of results fetched with keyset pagination
+ *
+ * @param <T> the entity type
+ * @see Query#paginate(PageSpec)
+ * @since 2.2
+ */
+public class Page<T> {
+    private final List<T> items;
+    private final String continuation;
+
+    Page(List<T> items, String continuation) {
+        this.items = items;
+        this.continuation = continuation;
+    }
+
+    /**
+     * @return the results on this page in sort order
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * The token to pass to {@link PageSpec#after(String)} to fetch the next page.  The token is opaque and only valid for a spec with the
+     * same sort.
+     *
+     * @return the token or null if this is the last page
+     */
+    public String getContinuation() {
+        return continuation;
+    }
+
+    /**
+     * @return true if there are more results after this page
+     */
+    public boolean hasNext() {
+        return continuation != null;
+    }
+}
@@ -0,0 +1,94 @@
+package dev.morphia.query;
+
+import com.mongodb.client.ClientSession;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.sofia.Sofia;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Describes a page of results to fetch with keyset pagination.  Rather than skipping over the earlier results, each page after the first
+ * resumes from the sort key values of the last result of the previous page, so fetching a page costs the same no matter how deep it is.
+ * <pre>
+ * PageSpec spec = new PageSpec(50, ascending("lastName"), ascending("firstName"));
+ * Page&lt;User&gt; page = datastore.find(User.class).paginate(spec);
+ * while (page.hasNext()) {
+ *     page = datastore.find(User.class).paginate(spec.after(page.getContinuation()));
+ * }
+ * </pre>
+ * The {@code _id} field is appended to the sort if it is not already part of it so that every result has a distinct position.  Null and
+ * missing sort values are treated alike and sort before every other value, as they do on the server.
+ *
+ * @see Query#paginate(PageSpec)
+ * @since 2.2
+ */
+public final class PageSpec implements SessionConfigurable<PageSpec> {
+    private final int size;
+    private final List<Sort> sorts;
+    private String continuation;
+    private ClientSession clientSession;
+
+    /**
+     * Creates a spec for the first page
+     *
+     * @param size  the maximum number of results on each page
+     * @param sorts the sort to apply
+     */
+    public PageSpec(int size, Sort... sorts) {
+        if (size < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPageSize(size));
+        }
+        for (Sort sort : sorts) {
+            if (sort.getField().startsWith("$")) {
+                throw new IllegalArgumentException(Sofia.invalidPaginationSort(sort.getField()));
+            }
+        }
+        this.size = size;
+        this.sorts = List.copyOf(asList(sorts));
+    }
+
+    /**
+     * Sets the page to fetch to the one following the page the token was issued for
+     *
+     * @param continuation the token from {@link Page#getContinuation()} or null to fetch the first page
+     * @return this
+     */
+    public PageSpec after(String continuation) {
+        this.continuation = continuation;
+        return this;
+    }
+
+    /**
+     * @return the token of the page this spec resumes after or null if it fetches the first page
+     */
+    public String getContinuation() {
+        return continuation;
+    }
+
+    /**
+     * @return the maximum number of results on each page
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the sort to apply
+     */
+    public List<Sort> getSorts() {
+        return sorts;
+    }
+
+    @Override
+    public PageSpec clientSession(ClientSession clientSession) {
+        this.clientSession = clientSession;
+        return this;
+    }
+
+    @Override
+    public ClientSession clientSession() {
+        return clientSession;
+    }
+}
@@ -0,0 +1,375 @@
+package dev.morphia.query;
+
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
+import dev.morphia.Datastore;
+import dev.morphia.aggregation.experimental.AggregationImpl;
+import dev.morphia.aggregation.experimental.stages.Count;
+import dev.morphia.aggregation.experimental.stages.Facet;
+import dev.morphia.aggregation.experimental.stages.Limit;
+import dev.morphia.aggregation.experimental.stages.Skip;
+import dev.morphia.aggregation.experimental.stages.Stage;
+import dev.morphia.annotations.IndexHelper;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.sofia.Sofia;
+import org.bson.BSONException;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.ByteBuf;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches pages of results for a query.
+ * <p>
+ * With keyset pagination, each page after the first is found by filtering on the sort key values of the last result of the previous
+ * page with a compound seek predicate, e.g., for a sort of {@code {a: 1, b: -1}}:
+ * <pre>
+ * {$or: [{a: {$gt: lastA}}, {a: {$eq: lastA}, b: {$lt: lastB}}]}
+ * </pre>
+ * Null and missing sort values need conditions of their own as comparison operators do not match across types.  The continuation token
+ * handed out with each page is the base64 encoded BSON of the sort and those values.
+ * <p>
+ * With offset pagination, the page and the total count are fetched together with a single aggregation:
+ * <pre>
+ * [{$match: filter}, {$facet: {items: [{$sort: ...}, {$skip: n}, {$limit: m}], total: [{$count: "count"}]}}]
+ * </pre>
+ * If the query has no filter at all, the page is found with a plain find and the total is taken from the collection's metadata.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.2
+ */
+class Paginator<T> {
+    private static final Map<Mapper, Set<String>> CHECKED_SORTS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final String COUNT = "count";
+    private static final String ITEMS = "items";
+    private static final String SORT = "s";
+    private static final String TOTAL = "total";
+    private static final String VALUES = "v";
+
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final MongoCollection<T> collection;
+    private final Class<T> type;
+    private final BsonDocument filter;
+
+    /**
+     * Creates a paginator
+     *
+     * @param datastore  the datastore to use
+     * @param collection the collection to query
+     * @param type       the query type
+     * @param filter     the encoded filter
+     */
+    Paginator(Datastore datastore, MongoCollection<T> collection, Class<T> type, BsonDocument filter) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+        this.collection = collection;
+        this.type = type;
+        this.filter = filter;
+    }
+
+    /**
+     * Fetches a page
+     *
+     * @param spec the page to fetch
+     * @return the page
+     */
+    Page<T> page(PageSpec spec) {
+        EntityModel model = mapper.getEntityModel(type);
+        BsonDocument sort = mapSort(model, spec);
+        checkIndexes(model, sort);
+
+        BsonDocument query = filter;
+        if (spec.getContinuation() != null) {
+            BsonDocument seek = seek(sort, decode(spec.getContinuation(), sort));
+            query = filter.isEmpty() ? seek : new BsonDocument("$and", new BsonArray(List.of(filter, seek)));
+        }
+
+        ClientSession session = datastore.findSession(spec);
+        MongoCollection<RawBsonDocument> raw = collection.withDocumentClass(RawBsonDocument.class);
+        FindIterable<RawBsonDocument> iterable = session == null ? raw.find(query) : raw.find(session, query);
+        List<RawBsonDocument> documents = iterable.sort(sort)
+                                                  .limit(spec.getSize() + 1)
+                                                  .into(new ArrayList<>(spec.getSize() + 1));
+
+        boolean hasNext = documents.size() > spec.getSize();
+        if (hasNext) {
+            documents = documents.subList(0, spec.getSize());
+        }
+
+        return new Page<>(decode(model, documents, true), hasNext ? encode(sort, documents.get(documents.size() - 1)) : null);
+    }
+
+    /**
+     * Fetches a page by offset along with the total number of matches
+     *
+     * @param options the options to apply.  The skip and limit define the page.
+     * @return the page
+     */
+    CountedPage<T> page(FindOptions options) {
+        EntityModel model = mapper.getEntityModel(type);
+        ClientSession session = datastore.findSession(options);
+        MongoCollection<RawBsonDocument> raw = options.prepare(collection).withDocumentClass(RawBsonDocument.class);
+        Document projection = options.mapProjection(mapper, type);
+        boolean register = projection == null;
+
+        if (filter.isEmpty() && session == null) {
+            List<RawBsonDocument> documents = options.apply(raw.find(), mapper, type)
+                                                     .into(new ArrayList<>());
+            return new CountedPage<>(decode(model, documents, register), raw.estimatedDocumentCount(), options.getSkip());
+        }
+
+        List<BsonDocument> pipeline = new ArrayList<>();
+        if (!filter.isEmpty()) {
+            pipeline.add(new BsonDocument("$match", filter));
+        }
+        AggregationImpl<RawBsonDocument> aggregation = new AggregationImpl<>(datastore, raw);
+        aggregation.facet(Facet.of()
+                               .field(ITEMS, itemStages(options))
+                               .field(TOTAL, new Count(COUNT)));
+        pipeline.addAll(aggregation.getDocuments());
+        if (projection != null) {
+            pipeline.get(pipeline.size() - 1).getDocument("$facet").getArray(ITEMS)
+                    .add(new BsonDocument("$project", projection.toBsonDocument(Document.class, mapper.getCodecRegistry())));
+        }
+
+        AggregateIterable<RawBsonDocument> iterable = session == null
+                                                      ? raw.aggregate(pipeline)
+                                                      : raw.aggregate(session, pipeline);
+        if (options.getCollation() != null) {
+            iterable.collation(options.getCollation());
+        }
+        iterable.maxTime(options.getMaxTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+        RawBsonDocument result = iterable.first();
+
+        List<BsonDocument> documents = new ArrayList<>();
+        for (BsonValue value : result.getArray(ITEMS)) {
+            documents.add(value.asDocument());
+        }
+        BsonArray total = result.getArray(TOTAL);
+        long count = total.isEmpty() ? 0 : total.get(0).asDocument().get(COUNT).asNumber().longValue();
+
+        return new CountedPage<>(decode(model, documents, register), count, options.getSkip());
+    }
+
+    private Stage[] itemStages(FindOptions options) {
+        List<Stage> stages = new ArrayList<>();
+        Document sort = options.mapSort(mapper, type);
+        if (sort != null && !sort.isEmpty()) {
+            dev.morphia.aggregation.experimental.stages.Sort stage = dev.morphia.aggregation.experimental.stages.Sort.on();
+            for (Entry<String, Object> entry : sort.entrySet()) {
+                if (entry.getValue() instanceof Document) {
+                    stage.meta(entry.getKey());
+                } else if (((Number) entry.getValue()).intValue() < 0) {
+                    stage.descending(entry.getKey());
+                } else {
+                    stage.ascending(entry.getKey());
+                }
+            }
+            stages.add(stage);
+        }
+        stages.add(Skip.of(options.getSkip()));
+        if (options.getLimit() > 0) {
+            stages.add(Limit.of(options.getLimit()));
+        }
+        return stages.toArray(new Stage[0]);
+    }
+
+    private List<T> decode(EntityModel model, List<? extends BsonDocument> documents, boolean register) {
+        Codec<T> codec = mapper.getCodecRegistry().get(type);
+        IdentityMap identityMap = register ? IdentityMap.of(datastore) : null;
+        DecoderContext context = DecoderContext.builder().build();
+        List<T> items = new ArrayList<>(documents.size());
+        for (BsonDocument document : documents) {
+            T entity = codec.decode(new BsonDocumentReader(document), context);
+            if (identityMap != null) {
+                entity = identityMap.register(model.getCollectionName(), mapper.getId(entity), entity);
+            }
+            items.add(entity);
+        }
+        return items;
+    }
+
+    private BsonDocument mapSort(EntityModel model, PageSpec spec) {
+        BsonDocument sort = new BsonDocument();
+        for (Sort s : spec.getSorts()) {
+            sort.append(new PathTarget(mapper, model, s.getField()).translatedPath(), new BsonInt32(s.getOrder()));
+        }
+        if (!sort.containsKey("_id")) {
+            sort.append("_id", new BsonInt32(sort.isEmpty() ? 1 : sort.get(sort.getFirstKey()).asInt32().getValue()));
+        }
+        return sort;
+    }
+
+    private void checkIndexes(EntityModel model, BsonDocument sort) {
+        Set<String> equalities = new TreeSet<>(equalities(filter));
+        Set<String> checked = CHECKED_SORTS.computeIfAbsent(mapper, m -> ConcurrentHashMap.newKeySet());
+        if (sort.size() == 1 || !checked.add(type.getName() + sort.toJson() + equalities)) {
+            return;
+        }
+        for (IndexModel index : new IndexHelper(mapper).calculateIndexes(model)) {
+            if (index.getKeys() instanceof Document && covers((Document) index.getKeys(), sort, equalities)) {
+                return;
+            }
+        }
+        Sofia.logUncoveredPaginationSort(sort.toJson(), type.getName());
+    }
+
+    /**
+     * An index supports a sort if the sort is a prefix of its keys and every direction either matches or every direction is reversed.
+     * Fields the filter matches by equality hold a single value across the results so they may appear anywhere in that prefix and are
+     * ignored in the sort.
+     */
+    private static boolean covers(Document keys, BsonDocument sort, Set<String> equalities) {
+        Iterator<Entry<String, Object>> indexKeys = keys.entrySet().iterator();
+        Boolean reversed = null;
+        for (Entry<String, BsonValue> entry : sort.entrySet()) {
+            if (equalities.contains(entry.getKey())) {
+                continue;
+            }
+            Entry<String, Object> key = null;
+            while (indexKeys.hasNext() && key == null) {
+                key = indexKeys.next();
+                if (equalities.contains(key.getKey())) {
+                    key = null;
+                }
+            }
+            if (key == null || !key.getKey().equals(entry.getKey()) || !(key.getValue() instanceof Number)) {
+                return false;
+            }
+            boolean same = Integer.signum(((Number) key.getValue()).intValue()) == entry.getValue().asInt32().getValue();
+            if (reversed == null) {
+                reversed = !same;
+            } else if (reversed == same) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the fields the filter matches by equality, i.e., {@code {field: value}} or {@code {field: {$eq: value}}} at the top level or
+     * within a top level {@code $and}.
+     */
+    private static Set<String> equalities(BsonDocument filter) {
+        Set<String> fields = new HashSet<>();
+        for (Entry<String, BsonValue> entry : filter.entrySet()) {
+            if (entry.getKey().equals("$and") && entry.getValue().isArray()) {
+                for (BsonValue clause : entry.getValue().asArray()) {
+                    if (clause.isDocument()) {
+                        fields.addAll(equalities(clause.asDocument()));
+                    }
+                }
+            } else if (!entry.getKey().startsWith("$") && isEquality(entry.getValue())) {
+                fields.add(entry.getKey());
+            }
+        }
+        return fields;
+    }
+
+    private static boolean isEquality(BsonValue value) {
+        if (!value.isDocument()) {
+            return !value.isRegularExpression();
+        }
+        BsonDocument document = value.asDocument();
+        return document.isEmpty() || !document.getFirstKey().startsWith("$") || document.size() == 1 && document.containsKey("$eq");
+    }
+
+    /**
+     * Null and missing values sort before every other value but comparison operators only match values of the same type, so they need
+     * their own conditions: after a null, an ascending sort continues with every non-null value and a descending sort has only more nulls
+     * left.  After any other value, a descending sort still has the nulls to come.
+     */
+    private static BsonDocument seek(BsonDocument sort, BsonArray values) {
+        List<String> keys = new ArrayList<>(sort.keySet());
+        BsonArray or = new BsonArray();
+        for (int i = 0; i < keys.size(); i++) {
+            boolean ascending = sort.getInt32(keys.get(i)).getValue() > 0;
+            BsonValue value = values.get(i);
+            if (value.isNull()) {
+                if (ascending) {
+                    or.add(clause(keys, values, i, new BsonDocument("$ne", BsonNull.VALUE)));
+                }
+            } else {
+                or.add(clause(keys, values, i, new BsonDocument(ascending ? "$gt" : "$lt", value)));
+                if (!ascending) {
+                    or.add(clause(keys, values, i, new BsonDocument("$eq", BsonNull.VALUE)));
+                }
+            }
+        }
+        return new BsonDocument("$or", or);
+    }
+
+    private static BsonDocument clause(List<String> keys, BsonArray values, int index, BsonDocument condition) {
+        BsonDocument clause = new BsonDocument();
+        for (int j = 0; j < index; j++) {
+            clause.append(keys.get(j), new BsonDocument("$eq", values.get(j)));
+        }
+        return clause.append(keys.get(index), condition);
+    }
+
+    private static String encode(BsonDocument sort, BsonDocument last) {
+        BsonArray values = new BsonArray();
+        for (String path : sort.keySet()) {
+            values.add(valueAt(last, path));
+        }
+        ByteBuf buffer = new RawBsonDocument(new BsonDocument(SORT, sort).append(VALUES, values), new BsonDocumentCodec())
+                             .getByteBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static BsonArray decode(String continuation, BsonDocument sort) {
+        try {
+            BsonDocument token = new RawBsonDocument(Base64.getUrlDecoder().decode(continuation));
+            BsonArray values = token.getArray(VALUES);
+            if (token.getDocument(SORT).equals(sort) && values.size() == sort.size()) {
+                return values;
+            }
+        } catch (IllegalArgumentException | BSONException e) {
+            throw new IllegalArgumentException(Sofia.invalidContinuationToken(sort.toJson()), e);
+        }
+        throw new IllegalArgumentException(Sofia.invalidContinuationToken(sort.toJson()));
+    }
+
+    private static BsonValue valueAt(BsonDocument document, String path) {
+        BsonValue value = document;
+        for (String name : path.split("\\.")) {
+            if (!value.isDocument() || !value.asDocument().containsKey(name)) {
+                return BsonNull.VALUE;
+            }
+            value = value.asDocument().get(name);
+        }
+        return value;
+    }
+}
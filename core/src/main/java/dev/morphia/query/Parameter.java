@@ -0,0 +1,56 @@
+package dev.morphia.query;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * A placeholder for a value in a {@link PreparedQuery}.  Parameters are used in place of a filter's value and are bound by name each time
+ * the prepared query is run.
+ *
+ * @see PreparedQuery#param(String)
+ * @since 2.2
+ */
+public final class Parameter {
+    /**
+     * The key used to mark a parameter in the encoded form of a query
+     *
+     * @morphia.internal
+     */
+    public static final String KEY = "$morphia.parameter";
+
+    private final String name;
+
+    Parameter(String name) {
+        this.name = Objects.requireNonNull(name);
+    }
+
+    /**
+     * @return the name of the parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Parameter)) {
+            return false;
+        }
+        return name.equals(((Parameter) o).name);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Parameter.class.getSimpleName() + "[", "]")
+                   .add("name='" + name + "'")
+                   .toString();
+    }
+}
@@ -0,0 +1,293 @@
+package dev.morphia.query;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.MergingBsonWriter;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
+import dev.morphia.query.internal.ReferenceBatchingCursor;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.EncoderContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.StringJoiner;
+
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.value;
+import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
+
+/**
+ * A query which has been validated, translated, and encoded once so that it can be run repeatedly with only the values changing.  Values
+ * which vary from run to run are given as {@link #param(String) parameters} when building the query and are bound by name when the
+ * prepared query is run:
+ *
+ * <pre>
+ * PreparedQuery&lt;User&gt; byName = datastore.prepare(datastore.find(User.class)
+ *                                                        .filter(eq("name", param("name")), gt("age", param("age"))));
+ * List&lt;User&gt; users = byName.iterator(Map.of("name", "Bob", "age", 21)).toList();
+ * </pre>
+ * <p>
+ * Instances are immutable and safe to share between threads.  Bound values are encoded with the codec for their own type so values for
+ * fields mapped with a custom handler, e.g. references, should be given in their stored form.
+ *
+ * @param <T> the query type
+ * @since 2.2
+ */
+public class PreparedQuery<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(PreparedQuery.class);
+
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final MongoCollection<T> collection;
+    private final Class<T> type;
+    private final BsonDocument filter;
+    private final boolean parameterized;
+    private final FindOptions options;
+    private final Document projection;
+    private final Document sort;
+
+    /**
+     * Creates a prepared query
+     *
+     * @param datastore  the datastore to use
+     * @param collection the collection to query
+     * @param type       the query type
+     * @param filter     the encoded filter
+     * @param options    the options to apply when running the query
+     */
+    PreparedQuery(Datastore datastore, MongoCollection<T> collection, Class<T> type, BsonDocument filter, FindOptions options) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+        this.collection = collection;
+        this.type = type;
+        this.filter = filter;
+        this.parameterized = hasParameters(filter);
+        this.options = options.copy();
+        this.projection = this.options.mapProjection(mapper, type);
+        this.sort = this.options.mapSort(mapper, type);
+    }
+
+    /**
+     * Creates a named placeholder for a value to be bound when a prepared query is run
+     *
+     * @param name the name of the parameter
+     * @return the parameter
+     */
+    public static Parameter param(String name) {
+        return new Parameter(name);
+    }
+
+    private static boolean hasParameters(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            if (isParameter(document)) {
+                return true;
+            }
+            for (BsonValue child : document.values()) {
+                if (hasParameters(child)) {
+                    return true;
+                }
+            }
+        } else if (value.isArray()) {
+            for (BsonValue child : value.asArray()) {
+                if (hasParameters(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isParameter(BsonDocument document) {
+        return document.size() == 1 && document.isString(Parameter.KEY);
+    }
+
+    /**
+     * Binds the given values to the parameters of this query
+     *
+     * @param values the values to bind by parameter name
+     * @return the filter document with all the parameters replaced by their values
+     * @throws QueryException if a parameter has no value given
+     */
+    public BsonDocument bind(Map<String, ?> values) {
+        return parameterized ? query(values) : filter.clone();
+    }
+
+    /**
+     * Counts the matching documents
+     *
+     * @param values the values to bind by parameter name
+     * @return the count
+     */
+    public long count(Map<String, ?> values) {
+        BsonDocument query = query(values);
+        ClientSession session = datastore.findSession(options);
+        MongoCollection<T> prepared = options.prepare(collection);
+        return session == null ? prepared.countDocuments(query)
+                               : prepared.countDocuments(session, query);
+    }
+
+    /**
+     * Gets the first entity in the result set.  Obeys the {@link FindOptions} given when the query was prepared.
+     *
+     * @param values the values to bind by parameter name
+     * @return the only instance in the result, or null if the result set is empty.
+     */
+    public T first(Map<String, ?> values) {
+        try (MongoCursor<T> it = iterator(values, 1)) {
+            return it.tryNext();
+        }
+    }
+
+    /**
+     * @return the encoded filter with any parameters still unbound
+     */
+    public BsonDocument getFilter() {
+        return filter.clone();
+    }
+
+    /**
+     * @return the collection this query runs against
+     * @morphia.internal
+     */
+    public MongoCollection<T> getCollection() {
+        return collection;
+    }
+
+    /**
+     * @return a copy of the options given when the query was prepared
+     */
+    public FindOptions getOptions() {
+        return options.copy();
+    }
+
+    /**
+     * @return the projection mapped to the stored field names or null if there is no projection
+     * @morphia.internal
+     */
+    public Document getProjection() {
+        return projection;
+    }
+
+    /**
+     * @return the sort mapped to the stored field names or null if there is no sort
+     * @morphia.internal
+     */
+    public Document getSort() {
+        return sort;
+    }
+
+    /**
+     * @return the query type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Runs the query with no values bound.  This is only valid for queries with no parameters.
+     *
+     * @return the cursor
+     */
+    public MorphiaCursor<T> iterator() {
+        return iterator(emptyMap());
+    }
+
+    /**
+     * Runs the query
+     *
+     * @param values the values to bind by parameter name
+     * @return the cursor
+     */
+    public MorphiaCursor<T> iterator(Map<String, ?> values) {
+        return iterator(values, null);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", PreparedQuery.class.getSimpleName() + "[", "]")
+                   .add("type=" + type.getSimpleName())
+                   .add("filter=" + filter)
+                   .toString();
+    }
+
+    private BsonDocument query(Map<String, ?> values) {
+        return parameterized ? bind(filter, values).asDocument() : filter;
+    }
+
+    private BsonValue bind(BsonValue value, Map<String, ?> values) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            if (isParameter(document)) {
+                return encode(document.getString(Parameter.KEY).getValue(), values);
+            }
+            BsonDocument bound = new BsonDocument();
+            for (Entry<String, BsonValue> entry : document.entrySet()) {
+                bound.put(entry.getKey(), bind(entry.getValue(), values));
+            }
+            return bound;
+        } else if (value.isArray()) {
+            BsonArray bound = new BsonArray();
+            for (BsonValue child : value.asArray()) {
+                bound.add(bind(child, values));
+            }
+            return bound;
+        }
+        return value;
+    }
+
+    private BsonValue encode(String name, Map<String, ?> values) {
+        if (!values.containsKey(name)) {
+            throw new QueryException(Sofia.unboundQueryParameter(name));
+        }
+        Object value = values.get(name);
+        if (value == null) {
+            return BsonNull.VALUE;
+        }
+        MergingBsonWriter writer = new MergingBsonWriter();
+        document(writer, () -> value(mapper, writer, "value", value, EncoderContext.builder().build()));
+        return writer.getDocument().get("value");
+    }
+
+    private MorphiaCursor<T> iterator(Map<String, ?> values, Integer limit) {
+        BsonDocument query = query(values);
+        if (options.getDecodeExecutor() != null) {
+            return new MorphiaCursor<>(new ParallelDecodingCursor<>(
+                find(query, collection.withDocumentClass(RawBsonDocument.class), limit), datastore, type, options));
+        }
+        if (options.isBatchReferences()) {
+            return new MorphiaCursor<>(new ReferenceBatchingCursor<>(
+                find(query, collection.withDocumentClass(RawBsonDocument.class), limit), datastore, type, options.getBatchSize()));
+        }
+        return new MorphiaCursor<>(find(query, collection, limit));
+    }
+
+    private <E> MongoCursor<E> find(BsonDocument query, MongoCollection<E> target, Integer limit) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace(format("Running prepared query(%s) : %s, options: %s,", collection.getNamespace().getCollectionName(), query,
+                options));
+        }
+
+        ClientSession session = datastore.findSession(options);
+        MongoCollection<E> prepared = options.prepare(target);
+        FindIterable<E> iterable = options.apply(session != null ? prepared.find(session, query) : prepared.find(query), projection, sort);
+        if (limit != null) {
+            iterable.limit(limit);
+        }
+        return iterable.iterator();
+    }
+}
@@ -1,6 +1,7 @@
 package dev.morphia.query;
 
 
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.result.DeleteResult;
 import dev.morphia.DeleteOptions;
 import dev.morphia.query.experimental.filters.Filter;
@@ -8,6 +9,7 @@ import dev.morphia.query.experimental.updates.UpdateOperator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
 import org.bson.Document;
 
 import java.util.Map;
@@ -331,6 +333,52 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
         return legacyOperation();
     }
 
+    /**
+     * Fetches a page of results along with the total number of results matching this query in a single round trip.  The page is defined
+     * by the {@link FindOptions#skip(int) skip}, {@link FindOptions#limit(int) limit}, and sort of the options.  When this query has no
+     * filters, the total is the collection's estimated document count.
+     * <p>
+     * The page and the count are returned by a {@code $facet} stage as a single document which, like any document, is limited to 16MB.
+     * Fetching a page whose results together exceed that, including every result when the limit is 0, fails so pages should be kept to a
+     * bounded size.  Implementations other than Morphia's own throw {@link UnsupportedOperationException} unless they override this
+     * method.
+     *
+     * @param options the options to apply
+     * @return the page
+     * @since 2.2
+     */
+    default CountedPage<T> page(FindOptions options) {
+        throw new UnsupportedOperationException(Sofia.unsupportedQueryOperation(getClass().getName(), "page"));
+    }
+
+    /**
+     * Fetches a page of results using keyset pagination.  Unlike {@link FindOptions#skip(int)}, the cost of fetching a page does not grow
+     * with its depth as each page resumes from the sort key values of the last result of the page before it.  A warning is logged the
+     * first time a sort, with {@code _id} appended, is used which no index declared on the entity supports.  Leading index fields this
+     * query matches by equality need not be part of the sort.  Implementations other than Morphia's own throw
+     * {@link UnsupportedOperationException} unless they override this method.
+     *
+     * @param spec the page to fetch
+     * @return the page
+     * @since 2.2
+     */
+    default Page<T> paginate(PageSpec spec) {
+        throw new UnsupportedOperationException(Sofia.unsupportedQueryOperation(getClass().getName(), "paginate"));
+    }
+
+    /**
+     * Validates, translates, and encodes this query once so that it can be run repeatedly binding only the values of any
+     * {@link PreparedQuery#param(String) parameters}.  Implementations other than Morphia's own throw
+     * {@link UnsupportedOperationException} unless they override this method.
+     *
+     * @param options the options to apply each time the query is run
+     * @return the prepared query
+     * @since 2.2
+     */
+    default PreparedQuery<T> prepare(FindOptions options) {
+        throw new UnsupportedOperationException(Sofia.unsupportedQueryOperation(getClass().getName(), "prepare"));
+    }
+
     /**
      * Limits the fields retrieved to those of the query type -- dangerous with interfaces and abstract classes
      *
@@ -371,6 +419,18 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
      */
     Document toDocument();
 
+    /**
+     * Encodes this query directly to its BSON form for use with the driver.  The default implementation converts
+     * {@link #toDocument()} using the driver's default codecs.
+     *
+     * @return the BSON form of this query
+     * @morphia.internal
+     * @since 2.2
+     */
+    default BsonDocument toBsonDocument() {
+        return toDocument().toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+
     /**
      * Creates an update operation based on this query
      *
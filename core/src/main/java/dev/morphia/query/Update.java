@@ -7,7 +7,7 @@ import dev.morphia.Datastore;
 import dev.morphia.UpdateOptions;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.experimental.updates.UpdateOperator;
-import org.bson.Document;
+import org.bson.BsonDocument;
 
 /**
  * Defines an update operation
@@ -42,18 +42,23 @@ public class Update<T> extends UpdateBase<T> {
      * @return the results
      */
     public UpdateResult execute(UpdateOptions options) {
-        Document updateOperations = toDocument();
-        final Document queryObject = getQuery().toDocument();
+        evict();
+        BsonDocument updateOperations = toBsonDocument();
+        final BsonDocument queryObject = getQuery().toBsonDocument();
 
         ClientSession session = getDatastore().findSession(options);
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
-        if (options.isMulti()) {
-            return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
-                                   : mongoCollection.updateMany(session, queryObject, updateOperations, options);
+        try {
+            if (options.isMulti()) {
+                return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
+                                       : mongoCollection.updateMany(session, queryObject, updateOperations, options);
 
-        } else {
-            return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
-                                   : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            } else {
+                return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
+                                       : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            }
+        } finally {
+            afterWrite(session);
         }
     }
 }
@@ -1,10 +1,14 @@
 package dev.morphia.query;
 
+import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.experimental.EntityCache;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import org.bson.BsonDocument;
 import org.bson.Document;
 
 import java.util.ArrayList;
@@ -67,23 +71,65 @@ public abstract class UpdateBase<T> {
      * @return the operations listed
      */
     public Document toDocument() {
+        return operations().toDocument();
+    }
+
+    /**
+     * @return the operations listed encoded directly to BSON
+     * @morphia.internal
+     * @since 2.2
+     */
+    public BsonDocument toBsonDocument() {
+        return operations().toBsonDocument();
+    }
+
+    protected void add(UpdateOperator operator) {
+        updates.add(operator);
+    }
+
+    private Operations operations() {
         final Operations operations = new Operations(mapper, mapper.getEntityModel(type));
 
         for (UpdateOperator update : updates) {
             PathTarget pathTarget = new PathTarget(mapper, mapper.getEntityModel(type), update.field(), true);
             operations.add(update.operator(), update.toTarget(pathTarget));
         }
-        return operations.toDocument();
-    }
-
-    protected void add(UpdateOperator operator) {
-        updates.add(operator);
+        return operations;
     }
 
     protected MongoCollection<T> getCollection() {
         return collection;
     }
 
+    /**
+     * Drops any entities held for the target collection by a session's identity map or an entity cache since they may no longer match the
+     * database.
+     */
+    protected void evict() {
+        String name = collection.getNamespace().getCollectionName();
+        IdentityMap identityMap = IdentityMap.of(datastore);
+        if (identityMap != null) {
+            identityMap.clear(name);
+        }
+        EntityCache cache = mapper.getEntityCache(name);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Invalidates the entity cache of the target collection once the write has completed so that documents read while it was running are
+     * not kept.
+     *
+     * @param session the session the write was made in or null
+     */
+    protected void afterWrite(ClientSession session) {
+        EntityCache cache = mapper.getEntityCache(collection.getNamespace().getCollectionName());
+        if (cache != null) {
+            cache.afterWrite(datastore, session, null);
+        }
+    }
+
     @Override
     public String toString() {
         return toDocument().toString();
@@ -5,6 +5,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.query.OperationTarget;
+import dev.morphia.query.Parameter;
 import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
@@ -116,7 +117,7 @@ public class Filter {
                 OperationTarget operationTarget = new OperationTarget(pathTarget, value);
                 this.value = operationTarget.getValue();
                 FieldModel mappedField = target.getTarget();
-                if (mappedField != null && mappedField.getCodec() instanceof PropertyHandler) {
+                if (mappedField != null && mappedField.getCodec() instanceof PropertyHandler && !(value instanceof Parameter)) {
                     this.value = ((Document) operationTarget.encode(mapper)).get(field);
                 }
             }
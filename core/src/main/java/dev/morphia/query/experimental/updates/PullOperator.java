@@ -5,6 +5,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.query.OperationTarget;
 import dev.morphia.query.experimental.filters.Filter;
+import org.bson.BsonWriter;
 import org.bson.codecs.EncoderContext;
 
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
@@ -34,6 +35,11 @@ public class PullOperator extends UpdateOperator {
 
                 return writer.getDocument();
             }
+
+            @Override
+            public void encode(Mapper mapper, BsonWriter writer, EncoderContext encoderContext) {
+                document(writer, () -> ((Filter) getValue()).encode(mapper, writer, encoderContext));
+            }
         };
     }
 }
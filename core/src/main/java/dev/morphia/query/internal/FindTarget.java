@@ -0,0 +1,219 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.model.Collation;
+import org.bson.Document;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The settings of a driver find operation which {@link dev.morphia.query.FindOptions} applies.  This lets the same options be applied to
+ * both the synchronous and the reactive drivers' find types which share no common interface.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public interface FindTarget {
+    /**
+     * Wraps a synchronous find
+     *
+     * @param iterable the find to configure
+     * @return the target
+     */
+    static FindTarget of(FindIterable<?> iterable) {
+        return new FindTarget() {
+            @Override
+            public void batchSize(int batchSize) {
+                iterable.batchSize(batchSize);
+            }
+
+            @Override
+            public void collation(Collation collation) {
+                iterable.collation(collation);
+            }
+
+            @Override
+            public void comment(String comment) {
+                iterable.comment(comment);
+            }
+
+            @Override
+            public void cursorType(CursorType cursorType) {
+                iterable.cursorType(cursorType);
+            }
+
+            @Override
+            public void hint(Document hint) {
+                iterable.hint(hint);
+            }
+
+            @Override
+            public void hintString(String hint) {
+                iterable.hintString(hint);
+            }
+
+            @Override
+            public void limit(int limit) {
+                iterable.limit(limit);
+            }
+
+            @Override
+            public void max(Document max) {
+                iterable.max(max);
+            }
+
+            @Override
+            public void maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit) {
+                iterable.maxAwaitTime(maxAwaitTime, timeUnit);
+            }
+
+            @Override
+            public void maxTime(long maxTime, TimeUnit timeUnit) {
+                iterable.maxTime(maxTime, timeUnit);
+            }
+
+            @Override
+            public void min(Document min) {
+                iterable.min(min);
+            }
+
+            @Override
+            public void noCursorTimeout(boolean noCursorTimeout) {
+                iterable.noCursorTimeout(noCursorTimeout);
+            }
+
+            @Override
+            public void oplogReplay(boolean oplogReplay) {
+                iterable.oplogReplay(oplogReplay);
+            }
+
+            @Override
+            public void partial(boolean partial) {
+                iterable.partial(partial);
+            }
+
+            @Override
+            public void projection(Document projection) {
+                iterable.projection(projection);
+            }
+
+            @Override
+            public void returnKey(boolean returnKey) {
+                iterable.returnKey(returnKey);
+            }
+
+            @Override
+            public void showRecordId(boolean showRecordId) {
+                iterable.showRecordId(showRecordId);
+            }
+
+            @Override
+            public void skip(int skip) {
+                iterable.skip(skip);
+            }
+
+            @Override
+            public void sort(Document sort) {
+                iterable.sort(sort);
+            }
+        };
+    }
+
+    /**
+     * @param batchSize the batch size
+     */
+    void batchSize(int batchSize);
+
+    /**
+     * @param collation the collation
+     */
+    void collation(Collation collation);
+
+    /**
+     * @param comment the comment
+     */
+    void comment(String comment);
+
+    /**
+     * @param cursorType the cursor type
+     */
+    void cursorType(CursorType cursorType);
+
+    /**
+     * @param hint the index hint
+     */
+    void hint(Document hint);
+
+    /**
+     * @param hint the name of the index to hint
+     */
+    void hintString(String hint);
+
+    /**
+     * @param limit the limit
+     */
+    void limit(int limit);
+
+    /**
+     * @param max the exclusive upper bound of the index
+     */
+    void max(Document max);
+
+    /**
+     * @param maxAwaitTime the maximum time to wait for new documents on a tailable cursor
+     * @param timeUnit     the time unit
+     */
+    void maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit);
+
+    /**
+     * @param maxTime  the maximum execution time
+     * @param timeUnit the time unit
+     */
+    void maxTime(long maxTime, TimeUnit timeUnit);
+
+    /**
+     * @param min the inclusive lower bound of the index
+     */
+    void min(Document min);
+
+    /**
+     * @param noCursorTimeout true to keep an idle cursor open
+     */
+    void noCursorTimeout(boolean noCursorTimeout);
+
+    /**
+     * @param oplogReplay the oplog replay flag
+     */
+    void oplogReplay(boolean oplogReplay);
+
+    /**
+     * @param partial true to allow partial results from a sharded cluster
+     */
+    void partial(boolean partial);
+
+    /**
+     * @param projection the mapped projection
+     */
+    void projection(Document projection);
+
+    /**
+     * @param returnKey true to return only the index keys
+     */
+    void returnKey(boolean returnKey);
+
+    /**
+     * @param showRecordId true to include the record ID
+     */
+    void showRecordId(boolean showRecordId);
+
+    /**
+     * @param skip the number of documents to skip
+     */
+    void skip(int skip);
+
+    /**
+     * @param sort the mapped sort
+     */
+    void sort(Document sort);
+}
@@ -0,0 +1,74 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.mapping.Mapper;
+
+/**
+ * Registers each entity read with a session's {@link IdentityMap}.  If the map already holds an instance for an entity's ID, that instance
+ * is returned in place of the one just decoded.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.2
+ */
+public class IdentityMapCursor<T> implements MongoCursor<T> {
+    private final MongoCursor<T> wrapped;
+    private final IdentityMap identityMap;
+    private final String collection;
+    private final Mapper mapper;
+
+    /**
+     * Creates a cursor
+     *
+     * @param wrapped     the cursor to read from
+     * @param identityMap the map to register entities with
+     * @param collection  the collection being read
+     * @param mapper      the mapper
+     */
+    public IdentityMapCursor(MongoCursor<T> wrapped, IdentityMap identityMap, String collection, Mapper mapper) {
+        this.wrapped = wrapped;
+        this.identityMap = identityMap;
+        this.collection = collection;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void close() {
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return wrapped.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return register(wrapped.next());
+    }
+
+    @Override
+    public T tryNext() {
+        return register(wrapped.tryNext());
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    private T register(T entity) {
+        if (entity == null || !mapper.isMappable(entity.getClass())) {
+            return entity;
+        }
+        return identityMap.register(collection, mapper.getId(entity), entity);
+    }
+}
@@ -8,6 +8,10 @@ import com.mongodb.client.MongoCursor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -54,6 +58,21 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
         }
     }
 
+    /**
+     * Streams the remaining results.  Closing the stream closes this cursor.  If the results are being decoded with a
+     * {@link dev.morphia.query.FindOptions#decodeExecutor(java.util.concurrent.Executor) decode executor} the stream splits on batch
+     * boundaries so that a parallel stream decodes each batch on its own thread.
+     *
+     * @return the stream
+     * @since 2.2
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = wrapped instanceof ParallelDecodingCursor
+                                     ? ((ParallelDecodingCursor<T>) wrapped).spliterator()
+                                     : Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
     @Override
     public boolean hasNext() {
         if (wrapped == null) {
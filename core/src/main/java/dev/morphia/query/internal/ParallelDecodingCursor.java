@@ -0,0 +1,315 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.experimental.ReferenceBatch;
+import dev.morphia.query.FindOptions;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Reads raw documents from the server on the calling thread and hands them off a batch at a time to an executor to be decoded.  Reading
+ * carries on while earlier batches are being decoded so fetching the next batch from the server overlaps with decoding.  The number of
+ * batches kept in flight starts at one, so the first result is not held up, and doubles with each batch taken up to twice as many as the
+ * executor has threads.
+ * <p>
+ * Decoding threads do not query the database.  Eager references are resolved a batch at a time on the reading thread before the batch is
+ * handed off.  The identity map in use by the thread which created the cursor is bound to the decoding threads as well.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @see FindOptions#decodeExecutor(Executor)
+ * @since 2.2
+ */
+public class ParallelDecodingCursor<T> implements MongoCursor<T> {
+    private final MongoCursor<RawBsonDocument> wrapped;
+    private final Datastore datastore;
+    private final EntityModel model;
+    private final Codec<T> codec;
+    private final Executor executor;
+    private final boolean ordered;
+    private final int batchSize;
+    private final int window;
+    private final IdentityMap identityMap;
+    private int inFlight = 1;
+    private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+    private Iterator<T> current = Collections.emptyIterator();
+
+    /**
+     * Creates a cursor
+     *
+     * @param wrapped   the raw cursor to read from
+     * @param datastore the datastore to use
+     * @param type      the entity type
+     * @param options   the options of the query
+     */
+    public ParallelDecodingCursor(MongoCursor<RawBsonDocument> wrapped, Datastore datastore, Class<T> type, FindOptions options) {
+        this.wrapped = wrapped;
+        this.datastore = datastore;
+        this.model = datastore.getMapper().getEntityModel(type);
+        this.codec = datastore.getMapper().getCodecRegistry().get(type);
+        this.executor = options.getDecodeExecutor();
+        this.ordered = options.isDecodeOrdered();
+        this.batchSize = options.getBatchSize() > 0 ? options.getBatchSize() : ReferenceBatchingCursor.DEFAULT_BATCH_SIZE;
+        int threads = executor instanceof ForkJoinPool
+                      ? ((ForkJoinPool) executor).getParallelism()
+                      : Runtime.getRuntime().availableProcessors();
+        this.window = Math.max(2, 2 * threads);
+        this.identityMap = IdentityMap.find(datastore);
+    }
+
+    @Override
+    public synchronized void close() {
+        for (CompletableFuture<List<T>> future : pending) {
+            future.cancel(false);
+        }
+        pending.clear();
+        current = Collections.emptyIterator();
+        wrapped.close();
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        while (!current.hasNext()) {
+            fill();
+            if (pending.isEmpty()) {
+                return false;
+            }
+            current = take().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public synchronized T tryNext() {
+        if (current.hasNext()) {
+            return current.next();
+        }
+        if (!pending.isEmpty()) {
+            current = take().iterator();
+            return current.next();
+        }
+        RawBsonDocument document = wrapped.tryNext();
+        if (document == null) {
+            return null;
+        }
+        List<RawBsonDocument> documents = List.of(document);
+        return decode(documents, resolve(documents)).get(0);
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    /**
+     * Creates a spliterator over the remaining results.  Each split hands off one batch of raw documents which is then decoded by
+     * whichever thread processes it so that parallel streams scale with the number of threads in their pool.  This cursor should not be
+     * iterated directly once the spliterator is in use.
+     *
+     * @return the spliterator
+     */
+    public Spliterator<T> spliterator() {
+        return new BatchSpliterator();
+    }
+
+    private List<T> decode(List<RawBsonDocument> documents, ReferenceBatch batch) {
+        Supplier<List<T>> decode = () -> {
+            List<T> entities = new ArrayList<>(documents.size());
+            for (RawBsonDocument document : documents) {
+                entities.add(document.decode(codec));
+            }
+            return entities;
+        };
+        Supplier<List<T>> bound = batch != null ? () -> batch.bind(decode) : decode;
+        return identityMap != null ? identityMap.bind(bound) : bound.get();
+    }
+
+    private void fill() {
+        while (pending.size() < inFlight) {
+            List<RawBsonDocument> documents = read();
+            if (documents.isEmpty()) {
+                return;
+            }
+            ReferenceBatch batch = resolve(documents);
+            pending.add(CompletableFuture.supplyAsync(() -> decode(documents, batch), executor));
+        }
+    }
+
+    /**
+     * Fetches the eager references of a batch on the current thread so that decoding it needs no queries
+     */
+    private ReferenceBatch resolve(List<RawBsonDocument> documents) {
+        if (documents.isEmpty()) {
+            return null;
+        }
+        ReferenceBatch batch = new ReferenceBatch(datastore);
+        for (RawBsonDocument document : documents) {
+            batch.collect(model, document);
+        }
+        if (identityMap != null) {
+            identityMap.bind(() -> {
+                batch.resolve();
+                return null;
+            });
+        } else {
+            batch.resolve();
+        }
+        return batch;
+    }
+
+    private synchronized Spliterator<T> nextBatch() {
+        if (current.hasNext()) {
+            List<T> remaining = new ArrayList<>();
+            current.forEachRemaining(remaining::add);
+            return remaining.spliterator();
+        }
+        if (!pending.isEmpty()) {
+            return take().spliterator();
+        }
+        List<RawBsonDocument> documents = read();
+        return documents.isEmpty() ? null : new DecodingSpliterator(documents, resolve(documents));
+    }
+
+    private List<RawBsonDocument> read() {
+        List<RawBsonDocument> documents = new ArrayList<>(batchSize);
+        while (documents.size() < batchSize && wrapped.hasNext()) {
+            documents.add(wrapped.next());
+        }
+        return documents;
+    }
+
+    private List<T> take() {
+        inFlight = Math.min(window, inFlight * 2);
+        CompletableFuture<List<T>> next = null;
+        if (!ordered) {
+            for (CompletableFuture<List<T>> future : pending) {
+                if (future.isDone()) {
+                    next = future;
+                    break;
+                }
+            }
+        }
+        if (next == null) {
+            next = pending.peekFirst();
+        }
+        pending.remove(next);
+        try {
+            return next.join();
+        } catch (CompletionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MappingException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private final class BatchSpliterator implements Spliterator<T> {
+        private Spliterator<T> batch;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (batch == null || !batch.tryAdvance(action)) {
+                batch = nextBatch();
+                if (batch == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> split = batch != null ? batch : nextBatch();
+            batch = null;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL | (ordered ? ORDERED : 0);
+        }
+    }
+
+    private final class DecodingSpliterator implements Spliterator<T> {
+        private final List<RawBsonDocument> documents;
+        private final ReferenceBatch batch;
+        private Spliterator<T> decoded;
+
+        private DecodingSpliterator(List<RawBsonDocument> documents, ReferenceBatch batch) {
+            this.documents = documents;
+            this.batch = batch;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return decoded().tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            decoded().forEachRemaining(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return decoded != null ? decoded.estimateSize() : documents.size();
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL | SIZED | (ordered ? ORDERED : 0);
+        }
+
+        private Spliterator<T> decoded() {
+            if (decoded == null) {
+                decoded = decode(documents, batch).spliterator();
+            }
+            return decoded;
+        }
+    }
+}
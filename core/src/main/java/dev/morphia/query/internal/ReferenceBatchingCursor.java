@@ -0,0 +1,133 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.experimental.ReferenceBatch;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads documents from the server a batch at a time and resolves the eager references of the whole batch with one query per referenced
+ * collection before decoding the entities.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ReferenceBatchingCursor<T> implements MongoCursor<T> {
+    /**
+     * The batch size used when none is configured on the query.  This matches the server's default first batch size.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 101;
+
+    private final MongoCursor<RawBsonDocument> wrapped;
+    private final Datastore datastore;
+    private final EntityModel model;
+    private final Codec<T> codec;
+    private final int batchSize;
+    private final Deque<T> decoded = new ArrayDeque<>();
+
+    /**
+     * Creates a cursor
+     *
+     * @param wrapped   the raw cursor to read from
+     * @param datastore the datastore to use
+     * @param type      the entity type
+     * @param batchSize the number of documents to read before resolving references
+     */
+    public ReferenceBatchingCursor(MongoCursor<RawBsonDocument> wrapped, Datastore datastore, Class<T> type, int batchSize) {
+        this.wrapped = wrapped;
+        this.datastore = datastore;
+        this.model = datastore.getMapper().getEntityModel(type);
+        this.codec = datastore.getMapper().getCodecRegistry().get(type);
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    @Override
+    public void close() {
+        decoded.clear();
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (decoded.isEmpty()) {
+            List<RawBsonDocument> documents = new ArrayList<>();
+            while (documents.size() < batchSize && wrapped.hasNext()) {
+                documents.add(wrapped.next());
+            }
+            decode(documents);
+        }
+        return !decoded.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return decoded.poll();
+    }
+
+    @Override
+    public T tryNext() {
+        if (decoded.isEmpty()) {
+            RawBsonDocument document = wrapped.tryNext();
+            if (document != null) {
+                decode(List.of(document));
+            }
+        }
+        return decoded.poll();
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    /**
+     * Decodes a batch of documents resolving the eager references of all of them with one query per referenced collection
+     *
+     * @param datastore the datastore to use
+     * @param model     the entity model
+     * @param codec     the entity codec
+     * @param documents the documents to decode
+     * @param <T>       the entity type
+     * @return the decoded entities in the same order as the documents
+     */
+    public static <T> List<T> decode(Datastore datastore, EntityModel model, Codec<T> codec, List<RawBsonDocument> documents) {
+        List<T> entities = new ArrayList<>(documents.size());
+        if (!documents.isEmpty()) {
+            ReferenceBatch batch = new ReferenceBatch(datastore);
+            for (RawBsonDocument document : documents) {
+                batch.collect(model, document);
+            }
+            batch.resolve();
+            batch.bind(() -> {
+                for (RawBsonDocument document : documents) {
+                    entities.add(document.decode(codec));
+                }
+                return null;
+            });
+        }
+        return entities;
+    }
+
+    private void decode(List<RawBsonDocument> documents) {
+        decoded.addAll(decode(datastore, model, codec, documents));
+    }
+}
@@ -5,26 +5,44 @@ import com.mongodb.client.model.CollationStrength;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.DeleteOptions;
+import dev.morphia.GetOptions;
+import dev.morphia.GetResult;
 import dev.morphia.ModifyOptions;
 import dev.morphia.UpdateOptions;
+import dev.morphia.query.CountedPage;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.Page;
+import dev.morphia.query.PageSpec;
 import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
 import dev.morphia.query.Update;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CurrentStatus;
 import dev.morphia.test.models.FacebookUser;
+import org.bson.Document;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
 import static com.mongodb.client.model.ReturnDocument.AFTER;
 import static com.mongodb.client.model.ReturnDocument.BEFORE;
+import static dev.morphia.query.Sort.ascending;
+import static dev.morphia.query.Sort.descending;
 import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
 import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
 import static dev.morphia.query.experimental.updates.UpdateOperators.set;
 import static java.util.Arrays.asList;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 class TestDatastore extends TestBase {
@@ -183,6 +201,135 @@ class TestDatastore extends TestBase {
         assertEquals(user.username, "Ron Swanson");
     }
 
+    @Test
+    public void testGetByIds() {
+        getDs().save(asList(new FacebookUser(1, "one"), new FacebookUser(2, "two"), new FacebookUser(3, "three"),
+            new FacebookUser(4, "four"), new FacebookUser(5, "five")));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            GetOptions options = new GetOptions()
+                                     .chunkSize(2)
+                                     .executor(executor);
+            GetResult<FacebookUser> result = getDs().get(FacebookUser.class, asList(5L, 3L, 42L, 1L, 3L), options);
+            assertEquals(result.getEntities().stream()
+                               .map(u -> u.username)
+                               .collect(Collectors.toList()), asList("five", "three", "one", "three"));
+            assertEquals(result.getMissingIds(), List.of(42L));
+            assertFalse(result.isComplete());
+            assertEquals(result.get(1L).username, "one");
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(getDs().get(FacebookUser.class, asList(2L, 4L)).isComplete());
+
+        GetResult<FacebookUser> converted = getDs().get(FacebookUser.class, asList(2, 4));
+        assertTrue(converted.isComplete());
+        assertEquals(converted.get(2).username, "two");
+    }
+
+    @Test
+    public void testKeysetPagination() {
+        List<FacebookUser> users = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            FacebookUser user = new FacebookUser(i, "user" + i);
+            user.loginCount = i % 3;
+            users.add(user);
+        }
+        getDs().save(users);
+
+        Query<FacebookUser> query = getDs().find(FacebookUser.class)
+                                           .filter(gt("loginCount", -1));
+        List<Long> expected = query.iterator(new FindOptions().sort(descending("loginCount"), descending("_id")))
+                                   .toList().stream()
+                                   .map(u -> u.id)
+                                   .collect(Collectors.toList());
+
+        PageSpec spec = new PageSpec(3, descending("loginCount"));
+        List<Long> paged = new ArrayList<>();
+        Page<FacebookUser> page = query.paginate(spec);
+        paged.addAll(page.getItems().stream().map(u -> u.id).collect(Collectors.toList()));
+        int pages = 1;
+        while (page.hasNext()) {
+            page = query.paginate(spec.after(page.getContinuation()));
+            paged.addAll(page.getItems().stream().map(u -> u.id).collect(Collectors.toList()));
+            pages++;
+        }
+        assertEquals(paged, expected);
+        assertEquals(pages, 3);
+
+        String continuation = query.paginate(new PageSpec(3, descending("loginCount"))).getContinuation();
+        assertThrows(IllegalArgumentException.class, () -> query.paginate(new PageSpec(3, ascending("username")).after(continuation)));
+        assertThrows(IllegalArgumentException.class, () -> query.paginate(new PageSpec(3).after("not a token")));
+    }
+
+    @Test
+    public void testKeysetPaginationWithNulls() {
+        List<FacebookUser> users = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            users.add(new FacebookUser(i, i % 3 == 2 ? null : "user" + (i % 4)));
+        }
+        getDs().save(users);
+        getDocumentCollection(FacebookUser.class)
+            .updateOne(new Document("_id", 6L), new Document("$set", new Document("username", null)));
+
+        for (Sort sort : asList(ascending("username"), descending("username"))) {
+            Sort id = sort.getOrder() > 0 ? ascending("_id") : descending("_id");
+            List<Long> expected = getDs().find(FacebookUser.class)
+                                         .iterator(new FindOptions().sort(sort, id))
+                                         .toList().stream()
+                                         .map(u -> u.id)
+                                         .collect(Collectors.toList());
+
+            PageSpec spec = new PageSpec(2, sort);
+            Page<FacebookUser> page = getDs().find(FacebookUser.class).paginate(spec);
+            List<Long> paged = page.getItems().stream().map(u -> u.id).collect(Collectors.toList());
+            while (page.hasNext()) {
+                page = getDs().find(FacebookUser.class).paginate(spec.after(page.getContinuation()));
+                paged.addAll(page.getItems().stream().map(u -> u.id).collect(Collectors.toList()));
+            }
+            assertEquals(paged, expected, sort.getField() + " " + sort.getOrder());
+            assertEquals(paged.size(), 7);
+        }
+    }
+
+    @Test
+    public void testPageWithCount() {
+        List<FacebookUser> users = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            FacebookUser user = new FacebookUser(i, "user" + i);
+            user.loginCount = i % 2;
+            users.add(user);
+        }
+        getDs().save(users);
+
+        CountedPage<FacebookUser> page = getDs().find(FacebookUser.class)
+                                                .filter(eq("loginCount", 1))
+                                                .page(new FindOptions()
+                                                          .sort(descending("_id"))
+                                                          .skip(1)
+                                                          .limit(2));
+        assertEquals(page.getTotal(), 5);
+        assertEquals(page.getItems().stream().map(u -> u.id).collect(Collectors.toList()), asList(7L, 5L));
+        assertTrue(page.hasNext());
+
+        page = getDs().find(FacebookUser.class)
+                      .filter(eq("loginCount", 3))
+                      .page(new FindOptions().limit(2));
+        assertEquals(page.getTotal(), 0);
+        assertTrue(page.getItems().isEmpty());
+
+        page = getDs().find(FacebookUser.class)
+                      .page(new FindOptions()
+                                .sort(ascending("_id"))
+                                .skip(8)
+                                .limit(5));
+        assertEquals(page.getTotal(), 10);
+        assertEquals(page.getItems().stream().map(u -> u.id).collect(Collectors.toList()), asList(9L, 10L));
+        assertFalse(page.hasNext());
+    }
+
     @Test
     public void testRefresh() {
         FacebookUser steve = getDs().save(new FacebookUser(1, "Steve"));
@@ -7,6 +7,7 @@ import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.LoadOnly;
+import dev.morphia.annotations.experimental.Cached;
 import dev.morphia.annotations.experimental.Constructor;
 import dev.morphia.annotations.experimental.EmbeddedBuilder;
 import dev.morphia.annotations.experimental.Name;
@@ -14,13 +15,18 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.NamingStrategy;
+import dev.morphia.mapping.codec.DoubleList;
+import dev.morphia.mapping.codec.LongList;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.experimental.EntityCache;
+import dev.morphia.mapping.experimental.LazyValue;
 import dev.morphia.mapping.experimental.MorphiaReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
+import dev.morphia.query.experimental.updates.UpdateOperators;
 import dev.morphia.test.models.Author;
 import dev.morphia.test.models.BannedUser;
 import dev.morphia.test.models.BlogImage;
@@ -36,18 +42,23 @@ import dev.morphia.test.models.errors.ContainsXKeyMap;
 import dev.morphia.test.models.errors.IdOnEmbedded;
 import dev.morphia.test.models.errors.MissingId;
 import dev.morphia.test.models.errors.OuterClass.NonStaticInnerClass;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.types.ObjectId;
 import org.testng.annotations.Ignore;
 import org.testng.annotations.Test;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
@@ -58,6 +69,7 @@ import static java.util.stream.Collectors.toList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
@@ -108,6 +120,71 @@ public class TestMapping extends TestBase {
         assertEquals(instance, first);
     }
 
+    @Test
+    public void discriminatorPosition() {
+        getMapper().map(Shape.class, Circle.class);
+        Circle circle = new Circle();
+        circle.name = "saved";
+        circle.radius = 1.5;
+        getDs().save(circle);
+        assertEquals(getDs().find(Shape.class).filter(eq("_id", circle.id)).first(), circle);
+
+        String discriminator = getMapper().getEntityModel(Circle.class).getDiscriminator();
+        Document first = new Document("_t", discriminator).append("_id", new ObjectId()).append("name", "first").append("radius", 2.0);
+        Document last = new Document("_id", new ObjectId()).append("name", "last").append("radius", 3.0).append("_t", discriminator);
+        getDocumentCollection(Shape.class).insertMany(List.of(first, last));
+
+        for (Document document : List.of(first, last)) {
+            Shape shape = getDs().find(Shape.class).filter(eq("_id", document.get("_id"))).first();
+            assertTrue(shape instanceof Circle, document.toJson());
+            assertEquals(shape.id, document.get("_id"));
+            assertEquals(shape.name, document.get("name"));
+            assertEquals(((Circle) shape).radius, document.get("radius"));
+        }
+    }
+
+    @Test
+    public void entityCache() {
+        getMapper().map(Currency.class);
+        EntityCache cache = getMapper().getEntityCache(Currency.class);
+        assertNotNull(cache);
+        assertNull(getMapper().getEntityCache(Shape.class));
+        getDs().save(List.of(new Currency("EUR", "Euro"), new Currency("USD", "US Dollar"), new Currency("GBP", "Pound")));
+
+        assertEquals(getDs().find(Currency.class).filter(eq("_id", "EUR")).first().name, "Euro");
+        assertEquals(cache.getMissCount(), 1);
+
+        getDocumentCollection(Currency.class).updateOne(new Document("_id", "EUR"), new Document("$set", new Document("name", "changed")));
+        Currency cached = getDs().find(Currency.class).filter(eq("_id", "EUR")).first();
+        assertEquals(cached.name, "Euro");
+        assertEquals(cache.getHitCount(), 1);
+        assertNotSame(getDs().find(Currency.class).filter(eq("_id", "EUR")).first(), cached);
+
+        cache.onChange(new BsonDocument("_id", new BsonString("EUR")));
+        Currency changed = getDs().find(Currency.class).filter(eq("_id", "EUR")).first();
+        assertEquals(changed.name, "changed");
+
+        changed.name = "Euro";
+        getDs().save(changed);
+        assertEquals(cache.size(), 0);
+        assertEquals(getDs().find(Currency.class).filter(eq("_id", "EUR")).first().name, "Euro");
+
+        getDs().find(Currency.class).filter(eq("_id", "USD")).first();
+        getDs().find(Currency.class).filter(eq("_id", "GBP")).first();
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.getEvictionCount(), 1);
+
+        getDs().find(Currency.class).filter(eq("_id", "GBP")).delete();
+        assertNull(getDs().find(Currency.class).filter(eq("_id", "GBP")).first());
+
+        long stamp = cache.stamp();
+        RawBsonDocument stale = getDocumentCollection(Currency.class).withDocumentClass(RawBsonDocument.class)
+                                                                      .find(new Document("_id", "USD")).first();
+        getDs().find(Currency.class).filter(eq("_id", "USD")).update(UpdateOperators.set("name", "Dollar")).execute();
+        cache.put("USD", stale, stamp);
+        assertEquals(getDs().find(Currency.class).filter(eq("_id", "USD")).first().name, "Dollar");
+    }
+
     @Test
     public void fieldNaming() {
         MapperOptions options = MapperOptions.builder()
@@ -140,6 +217,68 @@ public class TestMapping extends TestBase {
 
     }
 
+    @Test
+    public void lazyValues() {
+        getMapper().map(ContainsLazyValue.class);
+        ContainsLazyValue entity = new ContainsLazyValue();
+        entity.name = "lazy";
+        entity.history = LazyValue.wrap(new History(List.of("created", "updated")));
+        getDs().save(entity);
+
+        ContainsLazyValue loaded = getDs().find(ContainsLazyValue.class).filter(eq("_id", entity.id)).first();
+        assertEquals(loaded.name, "lazy");
+        assertFalse(loaded.history.isDecoded());
+
+        loaded.name = "renamed";
+        getDs().save(loaded);
+        Document stored = getDocumentCollection(ContainsLazyValue.class).find(new Document("_id", entity.id)).first();
+        assertEquals(stored.get("history", Document.class).get("events"), List.of("created", "updated"));
+
+        loaded = getDs().find(ContainsLazyValue.class).filter(eq("_id", entity.id)).first();
+        assertEquals(loaded.history.get().events, List.of("created", "updated"));
+        assertTrue(loaded.history.isDecoded());
+
+        loaded.history.get().events.add("archived");
+        getDs().save(loaded);
+        loaded = getDs().find(ContainsLazyValue.class).filter(eq("_id", entity.id)).first();
+        assertEquals(loaded.history.get().events, List.of("created", "updated", "archived"));
+    }
+
+    @Test
+    public void primitiveArraysAndLists() {
+        MapperOptions options = MapperOptions.builder()
+                                             .primitiveLists(true)
+                                             .build();
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TestBase.TEST_DB_NAME, options);
+        datastore.getMapper().map(ContainsPrimitives.class);
+        ContainsPrimitives entity = new ContainsPrimitives();
+        entity.bytes = new byte[]{1, -2, 3};
+        entity.doubles = new double[]{1.5, -2.25};
+        entity.ints = new int[]{4, 5, 6};
+        entity.longs = new long[]{Long.MAX_VALUE, 7};
+        entity.longList = List.of(8L, 9L);
+        entity.doubleList = List.of(0.5);
+        datastore.save(entity);
+
+        Document document = getDatabase().getCollection("containsPrimitives").find().first();
+        assertEquals(document.get("longs"), List.of(Long.MAX_VALUE, 7L));
+        assertEquals(document.get("bytes"), List.of(1, -2, 3));
+
+        ContainsPrimitives loaded = datastore.find(ContainsPrimitives.class).first();
+        assertEquals(loaded.bytes, entity.bytes);
+        assertEquals(loaded.doubles, entity.doubles);
+        assertEquals(loaded.ints, entity.ints);
+        assertEquals(loaded.longs, entity.longs);
+        assertTrue(loaded.longList instanceof LongList);
+        assertEquals(loaded.longList, entity.longList);
+        assertTrue(loaded.doubleList instanceof DoubleList);
+        assertEquals(loaded.doubleList, entity.doubleList);
+
+        getDatabase().getCollection("containsPrimitives")
+                     .updateOne(new Document("_id", entity.id), new Document("$set", new Document("longs", List.of(1, 2.0))));
+        assertEquals(datastore.find(ContainsPrimitives.class).first().longs, new long[]{1, 2});
+    }
+
     @org.junit.Test
     public void shouldSupportGenericArrays() {
         getMapper().map(MyEntity.class);
@@ -672,6 +811,33 @@ public class TestMapping extends TestBase {
         });
     }
 
+    @Test
+    public void testTrackChanges() {
+        MapperOptions options = MapperOptions.builder()
+                                             .trackChanges(true)
+                                             .build();
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TestBase.TEST_DB_NAME, options);
+        datastore.getMapper().map(User.class);
+
+        User user = new User("Jim", LocalDate.now(), "tennis", "chess");
+        user.age = 30;
+        datastore.save(user);
+        assertNull(datastore.getMapper().getChangeTracker().get(user));
+
+        User loaded = datastore.find(User.class).filter(eq("name", "Jim")).first();
+        assertNotNull(datastore.getMapper().getChangeTracker().get(loaded));
+
+        getDocumentCollection(User.class).updateOne(new Document("name", "Jim"), new Document("$set", new Document("extra", "kept")));
+        loaded.age = 31;
+        loaded.likes = null;
+        datastore.save(loaded);
+
+        Document stored = getDocumentCollection(User.class).find(new Document("name", "Jim")).first();
+        assertEquals(stored.get("age"), 31);
+        assertFalse(stored.containsKey("likes"));
+        assertEquals(stored.get("extra"), "kept");
+    }
+
     @Test
     public void testUUID() {
         getMapper().map(ContainsUUID.class);
@@ -698,6 +864,27 @@ public class TestMapping extends TestBase {
         assertEquals(before, loaded.id);
     }
 
+    @Test
+    public void warmUp() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TestBase.TEST_DB_NAME);
+        EntityModel model = datastore.getMapper().map(State.class).get(0);
+        assertNull(model.getField("state").getCachedCodec());
+        datastore.getMapper().warmUp();
+        for (FieldModel field : model.getFields()) {
+            assertNotNull(field.getCachedCodec(), field.toString());
+        }
+
+        MapperOptions options = MapperOptions.builder()
+                                             .warmUpCodecs(true)
+                                             .build();
+        datastore = Morphia.createDatastore(getMongoClient(), TestBase.TEST_DB_NAME, options);
+        for (EntityModel entityModel : datastore.getMapper().map(State.class, CityPopulation.class)) {
+            for (FieldModel field : entityModel.getFields()) {
+                assertNotNull(field.getCachedCodec(), field.toString());
+            }
+        }
+    }
+
     protected void findFirst(Datastore datastore, Class<?> type, BlogImage expected) {
         Query<?> query = datastore.find(type);
         assertEquals(query.count(), 1, query.toString());
@@ -778,6 +965,74 @@ public class TestMapping extends TestBase {
         }
     }
 
+    @Entity
+    private static class ContainsLazyValue {
+        @Id
+        private ObjectId id;
+        private String name;
+        private LazyValue<History> history;
+    }
+
+    @Entity("currencies")
+    @Cached(maxSize = 2)
+    private static class Currency {
+        @Id
+        private String id;
+        private String name;
+
+        Currency() {
+        }
+
+        Currency(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Embedded
+    private static class History {
+        private List<String> events = new ArrayList<>();
+
+        History() {
+        }
+
+        History(List<String> events) {
+            this.events.addAll(events);
+        }
+    }
+
+    @Entity("shapes")
+    private static class Shape {
+        @Id
+        protected ObjectId id;
+        protected String name;
+
+        @Override
+        public boolean equals(Object o) {
+            return o != null && o.getClass() == getClass() && Objects.equals(id, ((Shape) o).id) && Objects.equals(name, ((Shape) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, name);
+        }
+    }
+
+    @Entity("shapes")
+    private static class Circle extends Shape {
+        private double radius;
+
+        @Override
+        public boolean equals(Object o) {
+            return super.equals(o) && radius == ((Circle) o).radius;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), radius);
+        }
+    }
+
     @Entity
     private static class ContainsByteArray {
         private final byte[] bytes = "Scott".getBytes();
@@ -871,6 +1126,18 @@ public class TestMapping extends TestBase {
         private String[] strings = {"Scott", "Rocks"};
     }
 
+    @Entity
+    private static class ContainsPrimitives {
+        @Id
+        private ObjectId id;
+        private byte[] bytes;
+        private double[] doubles;
+        private int[] ints;
+        private long[] longs;
+        private List<Long> longList;
+        private List<Double> doubleList;
+    }
+
     @Entity
     private static class ContainsMapWithEmbeddedInterface {
         private final Map<String, Foo> embeddedValues = new HashMap<>();
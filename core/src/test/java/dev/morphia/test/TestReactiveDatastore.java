@@ -0,0 +1,137 @@
+package dev.morphia.test;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Version;
+import dev.morphia.experimental.ReactiveDatastore;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Sort;
+import dev.morphia.test.models.User;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class TestReactiveDatastore extends TestBase {
+    @Test
+    public void testCrud() {
+        try (MongoClient client = reactiveClient()) {
+            ReactiveDatastore reactive = new ReactiveDatastore(client, getDs());
+            for (User user : List.of(user("Alice", 35), user("Bob", 22), user("Carol", 41))) {
+                assertEquals(await(reactive.save(user)).size(), 1);
+            }
+
+            List<User> found = await(reactive.find(getDs().find(User.class).filter(gte("age", 30)),
+                new FindOptions().sort(Sort.ascending("name"))));
+            assertEquals(found.stream().map(u -> u.name).collect(toList()), List.of("Alice", "Carol"));
+            assertEquals(await(reactive.count(getDs().find(User.class))).get(0).longValue(), 3L);
+
+            assertEquals(await(reactive.update(getDs().find(User.class), new UpdateOptions().multi(true), inc("age")))
+                             .get(0).getModifiedCount(), 3);
+            Document counted = await(reactive.aggregate(getDs().aggregate(User.class)
+                                                               .match(gte("age", 40))
+                                                               .count("total"), Document.class)).get(0);
+            assertEquals(counted.getInteger("total"), Integer.valueOf(1));
+
+            assertEquals(await(reactive.delete(getDs().find(User.class).filter(eq("name", "Bob")), new DeleteOptions()))
+                             .get(0).getDeletedCount(), 1);
+            assertEquals(getDs().find(User.class).count(), 2);
+        }
+    }
+
+    @Test
+    public void testVersionConflict() {
+        getMapper().map(Versioned.class);
+        try (MongoClient client = reactiveClient()) {
+            ReactiveDatastore reactive = new ReactiveDatastore(client, getDs());
+            Versioned entity = new Versioned();
+            await(reactive.save(entity));
+            assertEquals(entity.version, Long.valueOf(1));
+
+            Versioned copy = getDs().find(Versioned.class).first();
+            await(reactive.save(copy));
+            assertEquals(copy.version, Long.valueOf(2));
+
+            assertThrows(ConcurrentModificationException.class, () -> await(reactive.save(entity)));
+            assertEquals(entity.version, Long.valueOf(1));
+        }
+    }
+
+    private static <T> List<T> await(Publisher<T> publisher) {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<T>() {
+            private final List<T> items = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(items);
+            }
+        });
+        try {
+            return future.get(10, SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+        } catch (InterruptedException | TimeoutException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private MongoClient reactiveClient() {
+        return MongoClients.create(MongoClientSettings.builder()
+                                                      .applyToClusterSettings(builder -> builder.applySettings(
+                                                          getMongoClient().getClusterDescription().getClusterSettings()))
+                                                      .build());
+    }
+
+    private User user(String name, int age) {
+        User user = new User(name, LocalDate.now());
+        user.age = age;
+        return user;
+    }
+
+    @Entity
+    private static class Versioned {
+        @Id
+        private ObjectId id;
+        @Version
+        private Long version;
+    }
+}
@@ -1,7 +1,10 @@
 package dev.morphia.test;
 
 import com.mongodb.TransactionOptions;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
 import dev.morphia.experimental.MorphiaSession;
+import dev.morphia.mapping.MapperOptions;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.User;
 import org.testng.annotations.BeforeMethod;
@@ -12,10 +15,13 @@ import java.util.List;
 
 import static com.mongodb.ClientSessionOptions.builder;
 import static com.mongodb.WriteConcern.MAJORITY;
+import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 //@Tags(@Tag("transactions"))
 public class TestTransactions extends TestBase {
@@ -53,6 +59,32 @@ public class TestTransactions extends TestBase {
         assertNull(getDs().find(Rectangle.class).first());
     }
 
+    @Test
+    public void identityMap() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), TEST_DB_NAME, MapperOptions.builder()
+                                                                                                   .sessionIdentityMap(true)
+                                                                                                   .build());
+        Rectangle rectangle = new Rectangle(1, 1);
+        datastore.save(rectangle);
+
+        datastore.withTransaction((session) -> {
+            Rectangle loaded = session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first();
+            assertNotSame(loaded, rectangle);
+            assertSame(session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first(), loaded);
+            assertSame(session.find(Rectangle.class).iterator().next(), loaded);
+
+            Rectangle saved = new Rectangle(2, 2);
+            session.save(saved);
+            assertSame(session.find(Rectangle.class).filter(eq("_id", saved.getId())).first(), saved);
+
+            session.delete(loaded);
+            assertNull(session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first());
+            return null;
+        });
+
+        assertNull(datastore.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first());
+    }
+
     @Test
     public void insert() {
         Rectangle rectangle = new Rectangle(1, 1);
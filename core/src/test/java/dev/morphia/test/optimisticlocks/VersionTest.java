@@ -2,6 +2,7 @@ package dev.morphia.test.optimisticlocks;
 
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.Datastore;
+import dev.morphia.InsertManyOptions;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.Version;
@@ -10,6 +11,7 @@ import dev.morphia.mapping.validation.ConstraintViolationException;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
+import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.TestEntity;
 import org.bson.types.ObjectId;
@@ -47,6 +49,44 @@ public class VersionTest extends TestBase {
         });
     }
 
+    @Test
+    public void testBulkSaveConflicts() {
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = List.of(new VersionedType(), new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        getDs().save(getDs().find(VersionedType.class)
+                            .filter(eq("_id", initial.get(1).getId()))
+                            .first());
+
+        VersionedType added = new VersionedType();
+        List<VersionedType> mixed = List.of(initial.get(0), initial.get(1), initial.get(2), added);
+        assertThrows(ConcurrentModificationException.class, () -> getDs().save(mixed, new InsertManyOptions().ordered(false)));
+
+        assertEquals(initial.get(0).version, 2);
+        assertEquals(initial.get(1).version, 1);
+        assertEquals(initial.get(2).version, 2);
+        assertEquals(added.version, 1);
+        assertEquals(getDs().find(VersionedType.class).count(), 4);
+        for (VersionedType type : mixed) {
+            assertEquals(getDs().find(VersionedType.class)
+                                .filter(eq("_id", type.getId()))
+                                .first().version, type == initial.get(1) ? 2 : type.version);
+        }
+    }
+
+    @Test
+    public void testBulkSaveManualVersion() {
+        getMapper().map(List.of(VersionedType.class));
+        VersionedType manual = new VersionedType();
+        manual.version = 3;
+        VersionedType added = new VersionedType();
+
+        assertThrows(ValidationException.class, () -> getDs().save(List.of(added, manual)));
+        assertEquals(added.version, 0);
+        assertEquals(getDs().find(VersionedType.class).count(), 0);
+    }
+
     @Test
     public void testFindAndModify() {
         final VersionedType initial = new VersionedType();
@@ -2,23 +2,34 @@ package dev.morphia.test.query.experimental.filters;
 
 import com.mongodb.client.MongoCollection;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.Parameter;
+import dev.morphia.query.PreparedQuery;
+import dev.morphia.query.Query;
+import dev.morphia.query.QueryException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.Budget;
 import dev.morphia.test.models.User;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
 import org.bson.Document;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static dev.morphia.aggregation.experimental.expressions.ComparisonExpressions.gt;
 import static dev.morphia.aggregation.experimental.expressions.Expressions.field;
+import static dev.morphia.query.PreparedQuery.param;
+import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.experimental.filters.Filters.and;
 import static dev.morphia.query.experimental.filters.Filters.bitsAllClear;
 import static dev.morphia.query.experimental.filters.Filters.bitsAllSet;
 import static dev.morphia.query.experimental.filters.Filters.bitsAnyClear;
 import static dev.morphia.query.experimental.filters.Filters.bitsAnySet;
+import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.expr;
 import static dev.morphia.query.experimental.filters.Filters.gt;
 import static dev.morphia.query.experimental.filters.Filters.gte;
@@ -34,6 +45,7 @@ import static java.util.Arrays.asList;
 import static org.bson.Document.parse;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 
 public class FiltersTest extends TestBase {
     @Test
@@ -46,6 +58,40 @@ public class FiltersTest extends TestBase {
                .iterator();
     }
 
+    @Test
+    public void testBsonEncoding() {
+        Query<Budget> query = getDs().find(Budget.class)
+                                     .filter(lt("budget", 10000), gt("budget", 12));
+
+        BsonDocument encoded = query.toBsonDocument();
+        assertEquals(encoded.getDocument("budget").keySet(), Set.of("$lt", "$gt"));
+        assertEquals(encoded, query.toDocument().toBsonDocument(Document.class, getMapper().getCodecRegistry()));
+    }
+
+    @Test
+    public void testPreparedQuery() {
+        User bob = new User("Bob", LocalDate.now());
+        bob.age = 30;
+        User jane = new User("Jane", LocalDate.now());
+        jane.age = 25;
+        User old = new User("Bob", LocalDate.now());
+        old.age = 70;
+        getDs().save(List.of(bob, jane, old));
+
+        PreparedQuery<User> prepared = getDs().prepare(getDs().find(User.class)
+                                                              .filter(eq("name", param("name")), gt("age", param("age"))),
+            new FindOptions().sort(ascending("age")));
+
+        assertEquals(prepared.getFilter().getDocument("name"), new BsonDocument(Parameter.KEY, new BsonString("name")));
+        assertEquals(prepared.count(Map.of("name", "Bob", "age", 18)), 2);
+        assertEquals(prepared.count(Map.of("name", "Bob", "age", 50)), 1);
+        assertEquals(prepared.first(Map.of("name", "Bob", "age", 18)).age, 30);
+        assertEquals(prepared.iterator(Map.of("name", "Jane", "age", 18)).toList().size(), 1);
+        assertEquals(prepared.bind(Map.of("name", "Bob", "age", 18)),
+            getDs().find(User.class).filter(eq("name", "Bob"), gt("age", 18)).toBsonDocument());
+        assertThrows(QueryException.class, () -> prepared.iterator(Map.of("name", "Bob")));
+    }
+
     @Test
     public void testBitsAllClear() {
         MongoCollection<Document> collection = getDatabase().getCollection("users");
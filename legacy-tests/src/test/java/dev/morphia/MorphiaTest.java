@@ -3,6 +3,7 @@ package dev.morphia;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.testindexpackage.IndexedEntity;
 import dev.morphia.testmappackage.AbstractBaseClass;
 import dev.morphia.testmappackage.SimpleEntity;
 import dev.morphia.testmappackage.testmapsubpackage.SimpleEntityInSubPackage;
@@ -32,6 +33,15 @@ public class MorphiaTest extends TestBase {
         assertTrue(classes.toString(), classes.contains(SimpleEntity.class));
     }
 
+    @Test
+    public void shouldPreferTheEntityIndexToScanning() {
+        getMapper().mapPackage("dev.morphia.testindexpackage");
+
+        List<EntityModel> list = getMapper().getMappedEntities();
+        assertEquals(list.toString(), 1, list.size());
+        assertEquals(IndexedEntity.class, list.get(0).getType());
+    }
+
     @Test
     public void testSubPackagesMapping() {
         // when
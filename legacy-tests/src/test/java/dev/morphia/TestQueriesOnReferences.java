@@ -4,14 +4,21 @@ package dev.morphia;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
 import dev.morphia.query.TestQuery.ContainsPic;
 import dev.morphia.query.TestQuery.Pic;
 import dev.morphia.query.TestQuery.PicWithObjectId;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.exists;
+import static java.util.stream.Collectors.toList;
 
 
 public class TestQueriesOnReferences extends TestBase {
@@ -35,6 +42,88 @@ public class TestQueriesOnReferences extends TestBase {
                                  .tryNext());
     }
 
+    @Test
+    public void testBatchedReferences() {
+        List<ContainsPic> list = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            final Pic p = new Pic();
+            p.setName("pic" + i);
+            getDs().save(p);
+            final ContainsPic cpk = new ContainsPic();
+            cpk.setPic(p);
+            list.add(cpk);
+        }
+        getDs().save(list);
+
+        List<ContainsPic> found = getDs().find(ContainsPic.class)
+                                         .iterator(new FindOptions()
+                                                       .batchReferences(true)
+                                                       .batchSize(10))
+                                         .toList();
+
+        Assert.assertEquals(25, found.size());
+        for (ContainsPic containsPic : found) {
+            Assert.assertNotNull(containsPic.getPic());
+            Assert.assertNotNull(containsPic.getPic().getName());
+        }
+    }
+
+    @Test
+    public void testParallelDecoding() {
+        List<ContainsPic> list = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final Pic p = new Pic();
+            p.setName("pic" + i);
+            getDs().save(p);
+            final ContainsPic cpk = new ContainsPic();
+            cpk.setName("cpk" + i);
+            cpk.setPic(p);
+            list.add(cpk);
+        }
+        getDs().save(list);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> names = getDs().find(ContainsPic.class)
+                                        .iterator(new FindOptions()
+                                                      .sort(Sort.ascending("_id"))
+                                                      .batchReferences(true)
+                                                      .batchSize(7)
+                                                      .decodeExecutor(pool))
+                                        .toList()
+                                        .stream()
+                                        .map(ContainsPic::getName)
+                                        .collect(toList());
+            Assert.assertEquals(list.stream().map(ContainsPic::getName).collect(toList()), names);
+
+            try (Stream<ContainsPic> stream = getDs().find(ContainsPic.class)
+                                                     .iterator(new FindOptions()
+                                                                   .batchSize(5)
+                                                                   .decodeExecutor(pool)
+                                                                   .decodeOrdered(false))
+                                                     .stream()) {
+                Assert.assertEquals(50, stream.parallel()
+                                              .filter(c -> c.getPic().getName() != null)
+                                              .count());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = ReferenceException.class)
+    public void testBatchedMissingReferences() {
+        final ContainsPic cpk = new ContainsPic();
+        final Pic p = new Pic();
+        cpk.setPic(p);
+        getDs().save(p);
+        getDs().save(cpk);
+
+        getDs().delete(p);
+
+        getDs().find(ContainsPic.class).iterator(new FindOptions().batchReferences(true)).toList();
+    }
+
     @Test(expected = ReferenceException.class)
     public void testMissingReferences() {
         final ContainsPic cpk = new ContainsPic();
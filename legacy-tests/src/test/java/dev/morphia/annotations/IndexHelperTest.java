@@ -17,6 +17,7 @@
 package dev.morphia.annotations;
 
 import com.mongodb.client.MongoCollection;
+import dev.morphia.IndexReport;
 import dev.morphia.TestBase;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
@@ -305,6 +306,30 @@ public class IndexHelperTest extends TestBase {
         assertEquals(new FieldBuilder().value("oldstyle").type(IndexType.DESC), converted.fields()[0]);
     }
 
+    @Test
+    public void reconcile() {
+        EntityModel model = getMapper().getEntityModel(IndexedClass.class);
+        MongoCollection<IndexedClass> collection = getMapper().getCollection(IndexedClass.class);
+        String collectionName = collection.getNamespace().getCollectionName();
+
+        IndexReport report = new IndexReport();
+        indexHelper.reconcile(collection, indexHelper.calculateIndexes(model), false, report);
+        assertEquals(3, report.getMissing().get(collectionName).size());
+        assertTrue(getIndexInfo(IndexedClass.class).isEmpty());
+
+        indexHelper.reconcile(collection, indexHelper.calculateIndexes(model), true, new IndexReport());
+        assertEquals(4, getIndexInfo(IndexedClass.class).size());
+
+        collection.createIndex(new Document("longitude", 1));
+        report = new IndexReport();
+        indexHelper.reconcile(collection, indexHelper.calculateIndexes(model), true, report);
+        assertTrue(report.getMissing().isEmpty());
+        assertTrue(report.getChanged().isEmpty());
+        assertEquals("longitude_1", report.getExtra().get(collectionName).get(0).get("name"));
+
+        assertEquals(report.getExtra(), getDs().checkIndexes().getExtra());
+    }
+
     @Test
     public void textPartialFilters() {
         MongoCollection<Document> collection = getDatabase().getCollection("indexes");
@@ -5,7 +5,11 @@ import dev.morphia.EntityInterceptor;
 import dev.morphia.TestBase;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PostPersist;
+import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.Transient;
 import dev.morphia.mapping.Mapper;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -23,6 +27,28 @@ public class TestEntityInterceptorMoment extends TestBase {
         getDs().save(new E());
     }
 
+    @Test
+    public void testInterceptedEvents() {
+        getMapper().addInterceptor(new Interceptor());
+
+        Assert.assertTrue(getMapper().hasInterceptors(PrePersist.class));
+        Assert.assertFalse(getMapper().hasInterceptors(PostPersist.class));
+        Assert.assertFalse(getMapper().hasInterceptors(PreLoad.class));
+        Assert.assertFalse(getMapper().hasInterceptors(PostLoad.class));
+    }
+
+    @Test
+    public void testLoadInterceptorDocument() {
+        getMapper().map(F.class);
+        getMapper().addInterceptor(new LoadInterceptor());
+
+        getDs().save(new F("original"));
+
+        F loaded = getDs().find(F.class).first();
+        Assert.assertEquals("rewritten", loaded.name);
+        Assert.assertEquals("rewritten", loaded.seen);
+    }
+
     @Entity
     static class E {
         @Id
@@ -36,6 +62,34 @@ public class TestEntityInterceptorMoment extends TestBase {
         }
     }
 
+    @Entity
+    static class F {
+        @Id
+        private final ObjectId id = new ObjectId();
+        private String name;
+        @Transient
+        private String seen;
+
+        F() {
+        }
+
+        F(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class LoadInterceptor implements EntityInterceptor {
+        @Override
+        public void postLoad(Object ent, Document document, Mapper mapper) {
+            ((F) ent).seen = document.getString("name");
+        }
+
+        @Override
+        public void preLoad(Object ent, Document document, Mapper mapper) {
+            document.put("name", "rewritten");
+        }
+    }
+
     public static class Interceptor implements EntityInterceptor {
         @Override
         public void prePersist(Object ent, Document document, Mapper mapper) {
@@ -59,6 +59,22 @@ public class PathTargetTest extends TestBase {
         assertEquals("listEmbeddedType.1", new PathTarget(mapper, entityModel, "listEmbeddedType.1").translatedPath());
     }
 
+    @Test
+    public void cachedPaths() {
+        getMapper().map(Student.class, Article.class);
+        Mapper mapper = getMapper();
+        EntityModel entityModel = mapper.getEntityModel(Student.class);
+
+        Assert.assertEquals("grades.1.d.name", new PathTarget(mapper, entityModel, "grades.1.data.name").translatedPath());
+        int size = mapper.getPathCache().size();
+
+        PathTarget pathTarget = new PathTarget(mapper, entityModel, "grades.$[element].data.name");
+        Assert.assertEquals("grades.$[element].d.name", pathTarget.translatedPath());
+        Assert.assertEquals(mapper.getEntityModel(Grade.class).getField("data"), pathTarget.getTarget());
+        assertEquals("grades.7.d.name", new PathTarget(mapper, entityModel, "grades.7.data.name").translatedPath());
+        assertEquals(size, mapper.getPathCache().size());
+    }
+
     @Test
     public void dottedPath() {
         getMapper().map(ParentType.class, EmbeddedType.class);
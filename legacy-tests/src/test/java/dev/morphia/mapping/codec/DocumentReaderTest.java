@@ -133,6 +133,58 @@ public class DocumentReaderTest extends TestBase {
         Assert.assertEquals(parent, decode);
     }
 
+    @Test
+    public void nullsAndNestedMarks() {
+        setup(new Document("empty", null)
+                  .append("list", List.of(1, 2)));
+
+        step(r -> {
+            r.readStartDocument();
+        });
+        step(r -> {
+            Assert.assertEquals(BsonType.NULL, r.readBsonType());
+        });
+        step(r -> {
+            Assert.assertEquals("empty", r.readName());
+        });
+        step(BsonReader::readNull);
+        step(r -> {
+            Assert.assertEquals(BsonType.ARRAY, r.readBsonType());
+        });
+        step(r -> {
+            Assert.assertEquals("list", r.readName());
+        });
+        BsonReaderMark listMark = reader.getMark();
+        step(r -> {
+            r.readStartArray();
+        });
+        step(r -> {
+            Assert.assertEquals(1, r.readInt32());
+        });
+
+        listMark.reset();
+
+        Assert.assertEquals(BsonType.ARRAY, reader.getCurrentBsonType());
+        step(r -> {
+            r.readStartArray();
+        });
+        step(r -> {
+            Assert.assertEquals(1, r.readInt32());
+        });
+        step(r -> {
+            Assert.assertEquals(2, r.readInt32());
+        });
+        step(r -> {
+            r.readEndArray();
+        });
+        step(r -> {
+            Assert.assertEquals(BsonType.END_OF_DOCUMENT, r.readBsonType());
+        });
+        step(r -> {
+            r.readEndDocument();
+        });
+    }
+
     @Test
     public void read() {
         setup(new Document("key", "value")
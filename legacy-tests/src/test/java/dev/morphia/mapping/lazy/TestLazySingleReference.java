@@ -11,6 +11,11 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
 import static dev.morphia.query.experimental.filters.Filters.eq;
 
 
@@ -80,6 +85,44 @@ public class TestLazySingleReference extends ProxyTestBase {
 
     }
 
+    @Test
+    public final void testProxyClassReuse() {
+        Assume.assumeTrue(LazyFeatureDependencies.assertProxyClassesPresent());
+
+        final ReferencedEntity reference = new ReferencedEntity();
+        reference.setFoo("bar");
+        getDs().save(reference);
+
+        List<RootEntity> roots = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            RootEntity root = new RootEntity();
+            root.r = reference;
+            root.secondReference = reference;
+            roots.add(root);
+        }
+        getDs().save(roots);
+
+        // the first load generates the proxy classes
+        assertIsProxy(getDs().find(RootEntity.class).first().r);
+
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        long before = classLoading.getTotalLoadedClassCount();
+        List<RootEntity> loaded = getDs().find(RootEntity.class).iterator().toList();
+        long generated = classLoading.getTotalLoadedClassCount() - before;
+
+        Assert.assertEquals(500, loaded.size());
+        for (RootEntity root : loaded) {
+            assertIsProxy(root.r);
+            assertNotFetched(root.r);
+            Assert.assertSame(loaded.get(0).r.getClass(), root.r.getClass());
+        }
+        Assert.assertTrue("Proxy classes should be reused but " + generated + " classes were loaded", generated < 50);
+
+        loaded.get(0).r.getFoo();
+        assertFetched(loaded.get(0).r);
+        assertNotFetched(loaded.get(1).r);
+    }
+
     @Test
     @Ignore("entity caching needs to be implemented")
     public final void testSameProxy() {
@@ -0,0 +1,14 @@
+package dev.morphia.testindexpackage;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+@Entity
+@SuppressWarnings("UnusedDeclaration")
+public class IndexedEntity {
+    @Id
+    private ObjectId id;
+
+    private String name;
+}
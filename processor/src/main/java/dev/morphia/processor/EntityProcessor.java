@@ -0,0 +1,97 @@
+package dev.morphia.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the binary names of every class annotated with {@code @Entity} or {@code @Embedded} to {@value #INDEX} so that
+ * {@code Mapper.mapPackage()} can find them without scanning the classpath.  Incremental builds only compile some of the sources so any
+ * index left by an earlier build is merged with the classes seen in this one.  Entries for classes which no longer exist are dropped.  An
+ * entity whose source is never seen by the processor, e.g., because it was compiled by another tool, is not listed and will not be found
+ * by {@code mapPackage()}.
+ * <p>
+ * To use, add {@code morphia-processor} to the annotation processor path of the project declaring the entities.
+ *
+ * @since 2.2
+ */
+@SupportedAnnotationTypes({EntityProcessor.ENTITY, EntityProcessor.EMBEDDED})
+public class EntityProcessor extends AbstractProcessor {
+    static final String ENTITY = "dev.morphia.annotations.Entity";
+    static final String EMBEDDED = "dev.morphia.annotations.Embedded";
+    static final String INDEX = "META-INF/morphia/entities.idx";
+
+    private final Set<String> indexed = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                indexed.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            }
+        }
+        if (roundEnv.processingOver() && !indexed.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        readIndex();
+        try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            for (String name : indexed) {
+                out.println(name);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write " + INDEX + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the entries of an index written by an earlier build which still name an existing type
+     */
+    private void readIndex() {
+        try (BufferedReader reader = new BufferedReader(processingEnv.getFiler()
+                                                                     .getResource(StandardLocation.CLASS_OUTPUT, "", INDEX)
+                                                                     .openReader(true))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String name = line.trim();
+                TypeElement type = name.isEmpty() ? null : processingEnv.getElementUtils().getTypeElement(name.replace('$', '.'));
+                if (type != null && isMapped(type)) {
+                    indexed.add(name);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no earlier index to merge with
+        }
+    }
+
+    private boolean isMapped(TypeElement type) {
+        for (AnnotationMirror mirror : processingEnv.getElementUtils().getAllAnnotationMirrors(type)) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (name.equals(ENTITY) || name.equals(EMBEDDED)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package dev.morphia.processor;
+
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class EntityProcessorTest {
+    private static final String SOURCE = String.join("\n",
+        "package sample;",
+        "",
+        "import dev.morphia.annotations.Entity;",
+        "import dev.morphia.annotations.Id;",
+        "",
+        "@Entity",
+        "public class Person {",
+        "    @Id",
+        "    private String id;",
+        "    private int age;",
+        "",
+        "    @Entity",
+        "    private static class Inner {",
+        "        private String name;",
+        "    }",
+        "}");
+
+    @Test
+    public void testIndex() throws Exception {
+        File output = Files.createTempDirectory("processor").toFile();
+        compile(output, new Source("sample/Person", SOURCE));
+
+        assertEquals(Files.readAllLines(new File(output, EntityProcessor.INDEX).toPath()), List.of("sample.Person", "sample.Person$Inner"));
+    }
+
+    @Test
+    public void testIncrementalIndex() throws Exception {
+        File output = Files.createTempDirectory("processor").toFile();
+        compile(output, new Source("sample/Person", SOURCE));
+        compile(output, new Source("sample/Address", String.join("\n",
+            "package sample;",
+            "",
+            "@dev.morphia.annotations.Embedded",
+            "public class Address {",
+            "    private String city;",
+            "}")));
+
+        assertEquals(Files.readAllLines(new File(output, EntityProcessor.INDEX).toPath()),
+            List.of("sample.Address", "sample.Person", "sample.Person$Inner"));
+
+        assertTrue(new File(output, "sample/Person.class").delete());
+        assertTrue(new File(output, "sample/Person$Inner.class").delete());
+        compile(output, new Source("sample/Address", "package sample;\n\n@dev.morphia.annotations.Embedded\npublic class Address {}"));
+
+        assertEquals(Files.readAllLines(new File(output, EntityProcessor.INDEX).toPath()), List.of("sample.Address"));
+    }
+
+    private void compile(File output, Source... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(output));
+            String classpath = System.getProperty("java.class.path") + File.pathSeparator + output.getAbsolutePath();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, List.of("-classpath", classpath), null,
+                List.of(sources));
+            task.setProcessors(List.of(new EntityProcessor()));
+            assertTrue(task.call());
+        }
+    }
+
+    private static class Source extends SimpleJavaFileObject {
+        private final String source;
+
+        Source(String path, String source) {
+            super(URI.create("string:///" + path + ".java"), JavaFileObject.Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}